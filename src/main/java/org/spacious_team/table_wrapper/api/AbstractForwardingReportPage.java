@@ -0,0 +1,81 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * {@link ReportPage} decorator, forwards all calls to wrapped report page. Subclasses override methods
+ * they want to speed up. {@link AbstractTableFactory} handles decorated page by the wrapped page type.
+ */
+@RequiredArgsConstructor(access = PROTECTED)
+public abstract class AbstractForwardingReportPage<R extends ReportPageRow> extends AbstractReportPage<R> {
+
+    /**
+     * Wrapped report page
+     */
+    @Getter
+    private final AbstractReportPage<R> reportPage;
+
+    @Override
+    public TableCellAddress find(Object value, int startRow, int endRow, int startColumn, int endColumn) {
+        return reportPage.find(value, startRow, endRow, startColumn, endColumn);
+    }
+
+    @Override
+    public TableCellAddress find(int startRow, int endRow,
+                                 int startColumn, int endColumn,
+                                 Predicate<Object> cellValuePredicate) {
+        return reportPage.find(startRow, endRow, startColumn, endColumn, cellValuePredicate);
+    }
+
+    @Override
+    public List<TableCellAddress> findFirstMatches(List<Predicate<Object>> cellValuePredicates,
+                                                   int startRow, int endRow,
+                                                   int startColumn, int endColumn) {
+        return reportPage.findFirstMatches(cellValuePredicates, startRow, endRow, startColumn, endColumn);
+    }
+
+    @Override
+    public TableCellAddress findByPrefix(@Nullable String prefix, int startRow, int endRow, int startColumn, int endColumn) {
+        return reportPage.findByPrefix(prefix, startRow, endRow, startColumn, endColumn);
+    }
+
+    @Override
+    public @Nullable R getRow(int i) {
+        return reportPage.getRow(i);
+    }
+
+    @Override
+    public int getLastRowNum() {
+        return reportPage.getLastRowNum();
+    }
+
+    @Override
+    public int findEmptyRow(int startRow) {
+        return reportPage.findEmptyRow(startRow);
+    }
+}
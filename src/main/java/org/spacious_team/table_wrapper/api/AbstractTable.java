@@ -20,42 +20,57 @@ package org.spacious_team.table_wrapper.api;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.ToString;
-import lombok.extern.slf4j.Slf4j;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
 
-@Slf4j
-@EqualsAndHashCode
+@EqualsAndHashCode(doNotUseGetters = true)
 @ToString(of = {"tableName"})
 public abstract class AbstractTable<R extends ReportPageRow> implements Table {
 
+    /**
+     * Number of data row partitions per processor for parallel data extraction
+     */
+    private static final int PARTITIONS_PER_PROCESSOR = 4;
+
     @Getter
     protected final AbstractReportPage<R> reportPage;
     protected final String tableName;
-    @Getter
+    /**
+     * Table range, which columns are not narrowed by header description
+     */
     private final TableCellRange tableRange;
-    @Getter
-    private final Map<TableColumn, Integer> headerDescription;
+    private final Class<?> headerDescriptionClass;
+    /**
+     * Header description, resolved on first use, shared with sub tables.
+     * Not compared by equals, header is defined by report page, table range and header description class.
+     */
+    @EqualsAndHashCode.Exclude
+    private final LazyHeader<?> header;
     @Getter
     private final boolean empty;
     /**
@@ -64,6 +79,9 @@ public abstract class AbstractTable<R extends ReportPageRow> implements Table {
     private final int dataRowOffset;
 
     /**
+     * Header description is resolved on first call of {@link #getHeaderDescription()}, {@link #getTableRange()},
+     * {@link #iterator()}, {@link #findRow(Object)} or {@link #column(TableHeaderColumn)}.
+     *
      * @param tableRange only first and last row numbers matters
      */
     @SuppressWarnings("unused")
@@ -75,18 +93,13 @@ public abstract class AbstractTable<R extends ReportPageRow> implements Table {
                   int headersRowCount) {
         this.reportPage = reportPage;
         this.tableName = tableName;
+        this.tableRange = tableRange;
+        this.headerDescriptionClass = headerDescription;
         this.dataRowOffset = 1 + headersRowCount; // table_name + headersRowCount
         this.empty = isEmpty(tableRange, dataRowOffset);
-        this.headerDescription = this.empty ?
-                Collections.emptyMap() :
-                getHeaderDescription(reportPage, tableRange, headerDescription, headersRowCount);
-        this.tableRange = empty ?
-                tableRange :
-                TableCellRange.of(
-                        tableRange.getFirstRow(),
-                        tableRange.getLastRow(),
-                        getColumnIndices(this.headerDescription).min().orElse(tableRange.getFirstColumn()),
-                        getColumnIndices(this.headerDescription).max().orElse(tableRange.getLastColumn()));
+        this.header = this.empty ?
+                LazyHeader.EMPTY :
+                new LazyHeader<>(reportPage, tableRange, headerDescription, headersRowCount);
     }
 
     @SuppressWarnings("unused")
@@ -94,9 +107,10 @@ public abstract class AbstractTable<R extends ReportPageRow> implements Table {
         this.reportPage = table.reportPage;
         this.tableName = table.tableName;
         this.tableRange = table.tableRange.addRowsToTop(appendDataRowsToTop).addRowsToBottom(appendDataRowsToBottom);
+        this.headerDescriptionClass = table.headerDescriptionClass;
         this.dataRowOffset = table.dataRowOffset;
         this.empty = isEmpty(tableRange, dataRowOffset);
-        this.headerDescription = table.headerDescription;
+        this.header = table.header;
     }
 
     private static boolean isEmpty(TableCellRange tableRange, int dataRowOffset) {
@@ -107,11 +121,127 @@ public abstract class AbstractTable<R extends ReportPageRow> implements Table {
         return tableRange.getLastRow() - tableRange.getFirstRow() + 1;
     }
 
+    /**
+     * @return column indices of found columns, optional columns which are not found are excluded
+     * @throws TableColumnNotFound if required column is not found
+     */
+    @Override
+    public Map<TableColumn, Integer> getHeaderDescription() {
+        return header.get().headerDescription;
+    }
+
+    /**
+     * Sets header description already resolved by header rows, for example by {@link TableLayoutRegistry},
+     * if header description is not resolved yet.
+     *
+     * @param resolvedHeaderDescription column indices, as {@link #getHeaderDescription()} returns them
+     * @see AbstractTableFactory#create(ReportPage, String, TableCellRange, Class, int, Map)
+     */
+    <T extends Enum<T> & TableHeaderColumn>
+    void setResolvedHeaderDescription(Map<TableColumn, Integer> resolvedHeaderDescription, Class<T> headerDescription) {
+        if (!empty) {
+            header.set(new ResolvedHeader(resolvedHeaderDescription,
+                    ColumnIndices.of(resolvedHeaderDescription, headerDescription)));
+        }
+    }
+
+    /**
+     * @return table range, which columns are narrowed by found header columns
+     */
+    public TableCellRange getTableRange() {
+        ResolvedHeader resolvedHeader = header.get();
+        return resolvedHeader.narrowed ?
+                TableCellRange.of(
+                        tableRange.getFirstRow(),
+                        tableRange.getLastRow(),
+                        resolvedHeader.firstColumn,
+                        resolvedHeader.lastColumn) :
+                tableRange;
+    }
+
+    /**
+     * Thread safe memoized header description.
+     */
+    private static final class LazyHeader<T extends Enum<T> & TableHeaderColumn> {
+        static final LazyHeader<?> EMPTY = new LazyHeader<>(ResolvedHeader.EMPTY);
+
+        private final @Nullable AbstractReportPage<?> reportPage;
+        private final @Nullable TableCellRange tableRange;
+        private final @Nullable Class<T> headerDescription;
+        private final int headersRowCount;
+        private volatile @Nullable ResolvedHeader resolvedHeader;
+
+        LazyHeader(AbstractReportPage<?> reportPage, TableCellRange tableRange,
+                   Class<T> headerDescription, int headersRowCount) {
+            this.reportPage = reportPage;
+            this.tableRange = tableRange;
+            this.headerDescription = headerDescription;
+            this.headersRowCount = headersRowCount;
+        }
+
+        private LazyHeader(ResolvedHeader resolvedHeader) {
+            this.reportPage = null;
+            this.tableRange = null;
+            this.headerDescription = null;
+            this.headersRowCount = 0;
+            this.resolvedHeader = resolvedHeader;
+        }
+
+        synchronized void set(ResolvedHeader resolvedHeader) {
+            if (this.resolvedHeader == null) {
+                this.resolvedHeader = resolvedHeader;
+            }
+        }
+
+        @SuppressWarnings({"nullness", "ConstantConditions"})
+        ResolvedHeader get() {
+            @Nullable ResolvedHeader result = resolvedHeader;
+            if (result == null) {
+                synchronized (this) {
+                    result = resolvedHeader;
+                    if (result == null) {
+                        Map<TableColumn, Integer> description =
+                                getHeaderDescription(reportPage, tableRange, headerDescription, headersRowCount);
+                        result = new ResolvedHeader(description, ColumnIndices.of(description, headerDescription));
+                        resolvedHeader = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class ResolvedHeader {
+        static final ResolvedHeader EMPTY = new ResolvedHeader(Collections.emptyMap(), ColumnIndices.EMPTY);
+
+        private final Map<TableColumn, Integer> headerDescription;
+        /**
+         * Header description indexed by header enum constant ordinal
+         */
+        private final ColumnIndices columnIndices;
+        /**
+         * False if header description is empty, table range shouldn't be narrowed
+         */
+        private final boolean narrowed;
+        private final int firstColumn;
+        private final int lastColumn;
+
+        ResolvedHeader(Map<TableColumn, Integer> headerDescription, ColumnIndices columnIndices) {
+            this.headerDescription = headerDescription;
+            this.columnIndices = columnIndices;
+            this.narrowed = !headerDescription.isEmpty();
+            this.firstColumn = getColumnIndices(headerDescription).min().orElse(0);
+            this.lastColumn = getColumnIndices(headerDescription).max().orElse(0);
+        }
+    }
+
     private static <T extends Enum<T> & TableHeaderColumn>
     Map<TableColumn, Integer> getHeaderDescription(AbstractReportPage<?> reportPage, TableCellRange tableRange,
                                                    Class<T> headerDescription,
                                                    int headersRowCount) {
-        Map<TableColumn, Integer> columnIndices = new HashMap<>();
+        if (!HeaderMatcher.of(headerDescription).isHeaderRowsRequired()) {
+            return resolveHeaderDescription(new ReportPageRow[0], headerDescription);
+        }
         ReportPageRow[] headerRows = new ReportPageRow[headersRowCount];
         for (int i = 0; i < headersRowCount; i++) {
             @Nullable ReportPageRow row = reportPage.getRow(tableRange.getFirstRow() + 1 + i);
@@ -119,19 +249,28 @@ public abstract class AbstractTable<R extends ReportPageRow> implements Table {
             ReportPageRow notNullRow = requireNonNull(row, "Header row is absent");
             headerRows[i] = notNullRow;
         }
-        @SuppressWarnings("nullness")
-        TableColumn[] columns = Arrays.stream(headerDescription.getEnumConstants())
-                .map(TableHeaderColumn::getColumn)
-                .toArray(TableColumn[]::new);
-        for (TableColumn column : columns) {
-            try {
-                int columnIndex = column.getColumnIndex(headerRows);
-                columnIndices.put(column, columnIndex);
-            } catch (OptionalTableColumnNotFound e) {
-                log.debug("Optional header column is not found: {}", column, e);
-            }
+        return getHeaderDescription(headerRows, headerDescription);
+    }
+
+    /**
+     * @return column indices of found columns, optional columns which are not found are excluded
+     * @see HeaderDescriptionCache#setDefault(HeaderDescriptionCache)
+     */
+    static <T extends Enum<T> & TableHeaderColumn>
+    Map<TableColumn, Integer> getHeaderDescription(ReportPageRow[] headerRows, Class<T> headerDescription) {
+        @Nullable HeaderDescriptionCache cache = HeaderDescriptionCache.getDefault();
+        if (cache != null) {
+            return cache.getHeaderDescription(headerRows, headerDescription);
         }
-        return unmodifiableMap(columnIndices);
+        return resolveHeaderDescription(headerRows, headerDescription);
+    }
+
+    /**
+     * @return column indices of found columns, optional columns which are not found are excluded
+     */
+    static <T extends Enum<T> & TableHeaderColumn>
+    Map<TableColumn, Integer> resolveHeaderDescription(ReportPageRow[] headerRows, Class<T> headerDescription) {
+        return HeaderMatcher.of(headerDescription).getHeaderDescription(headerRows);
     }
 
     private static IntStream getColumnIndices(Map<TableColumn, Integer> headerDescription) {
@@ -141,49 +280,228 @@ public abstract class AbstractTable<R extends ReportPageRow> implements Table {
     }
 
     public <T> List<T> getData(Object report, Function<TableRow, @Nullable T> rowExtractor) {
-        return getDataCollection(report, (row, data) -> {
-            @Nullable T result = rowExtractor.apply(row);
-            if (result != null) {
-                data.add(result);
-            }
-        });
+        return getDataCollection(report, TableDataHelper.getDataRowHandler(rowExtractor));
     }
 
     public <T> List<T> getDataCollection(Object report, Function<TableRow, @Nullable Collection<T>> rowExtractor) {
-        return getDataCollection(report, (row, data) -> {
-            @Nullable Collection<T> result = rowExtractor.apply(row);
-            if (result != null) {
-                data.addAll(result);
-            }
-        });
+        return getDataCollection(report, TableDataHelper.getDataCollectionRowHandler(rowExtractor));
     }
 
     public <T> List<T> getDataCollection(Object report, Function<TableRow, @Nullable Collection<T>> rowExtractor,
                                          BiPredicate<T, T> equalityChecker,
                                          BiFunction<T, T, @Nullable Collection<T>> mergeDuplicates) {
+        return getDataCollection(report,
+                TableDataHelper.getDataCollectionRowHandler(rowExtractor, equalityChecker, mergeDuplicates));
+    }
+
+    @Override
+    public <T> void forEachData(Object report,
+                                Function<TableRow, @Nullable T> rowExtractor,
+                                Consumer<? super T> consumer) {
+        TableDataHelper.<T>forEachData(tableName, report, iterator(), rowExtractor, consumer);
+    }
+
+    private <T> List<T> getDataCollection(Object report, BiConsumer<TableRow, Collection<T>> rowHandler) {
+        return getDataCollection(report, iterator(), rowHandler);
+    }
+
+    private <T> List<T> getDataCollection(Object report,
+                                          Iterator<@Nullable TableRow> rows,
+                                          BiConsumer<TableRow, Collection<T>> rowHandler) {
+        return handleRows(report, rows, new ArrayList<>(), rowHandler);
+    }
+
+    private <D> D handleRows(Object report,
+                             Iterator<@Nullable TableRow> rows,
+                             D data,
+                             BiConsumer<TableRow, ? super D> rowHandler) {
+        return TableDataHelper.handleRows(tableName, report, rows, data, rowHandler);
+    }
+
+    /**
+     * Parallel version of {@link #getData(Object, Function)}. Data rows are partitioned, row extractor is called
+     * concurrently by executor tasks, each task has its own {@link MutableTableRow} object.
+     * Partition results are concatenated in row order, so result and row error logging are the same
+     * as for sequential version.
+     *
+     * @apiNote Report page rows are read concurrently, report page impl should allow concurrent reading.
+     */
+    public <T> List<T> getData(Object report, Function<TableRow, @Nullable T> rowExtractor, Executor executor) {
+        return getDataCollection(report, TableDataHelper.getDataRowHandler(rowExtractor), executor);
+    }
+
+    /**
+     * Parallel version of {@link #getDataCollection(Object, Function)}.
+     *
+     * @see #getData(Object, Function, Executor)
+     */
+    public <T> List<T> getDataCollection(Object report,
+                                         Function<TableRow, @Nullable Collection<T>> rowExtractor,
+                                         Executor executor) {
+        return getDataCollection(report, TableDataHelper.getDataCollectionRowHandler(rowExtractor), executor);
+    }
+
+    /**
+     * Parallel version of {@link #getDataCollection(Object, Function, BiPredicate, BiFunction)}.
+     * Row extractor is called concurrently, duplicate objects are merged by caller thread in row order.
+     *
+     * @apiNote Only row extraction is parallel. Merging is sequential and takes O(n<sup>2</sup>) time
+     * on caller thread after all rows are extracted, so merge-heavy tables are not sped up by executor.
+     * Prefer {@link #getDataCollection(Object, Function, Function, BiFunction, Executor)} for such tables.
+     * @see #getData(Object, Function, Executor)
+     */
+    public <T> List<T> getDataCollection(Object report, Function<TableRow, @Nullable Collection<T>> rowExtractor,
+                                         BiPredicate<T, T> equalityChecker,
+                                         BiFunction<T, T, @Nullable Collection<T>> mergeDuplicates,
+                                         Executor executor) {
+        List<RowData<T>> rowsData = getRowsData(report, rowExtractor, executor);
+        List<T> data = new ArrayList<>();
+        for (RowData<T> rowData : rowsData) {
+            try {
+                for (T r : rowData.data) {
+                    addWithEqualityChecker(r, data, equalityChecker, mergeDuplicates);
+                }
+            } catch (Exception e) {
+                TableDataHelper.logRowError(tableName, report, rowData.rowNum, e);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * @return row extractor results in row order, extracted concurrently
+     */
+    private <T> List<RowData<T>> getRowsData(Object report,
+                                             Function<TableRow, @Nullable Collection<T>> rowExtractor,
+                                             Executor executor) {
         return getDataCollection(report, (row, data) -> {
             @Nullable Collection<T> result = rowExtractor.apply(row);
             if (result != null) {
-                for (T r : result) {
-                    addWithEqualityChecker(r, data, equalityChecker, mergeDuplicates);
-                }
+                data.add(new RowData<>(row.getRowNum(), result));
             }
-        });
+        }, executor);
     }
 
-    private <T> List<T> getDataCollection(Object report, BiConsumer<TableRow, Collection<T>> rowHandler) {
+    private <T> List<T> getDataCollection(Object report,
+                                          BiConsumer<TableRow, Collection<T>> rowHandler,
+                                          Executor executor) {
+        List<CompletableFuture<List<T>>> partitionsData = new ArrayList<>();
+        for (Spliterator<@Nullable TableRow> partition : getPartitions()) {
+            partitionsData.add(CompletableFuture.supplyAsync(
+                    () -> getDataCollection(report, Spliterators.iterator(partition), rowHandler),
+                    executor));
+        }
         List<T> data = new ArrayList<>();
-        for (@Nullable TableRow row : this) {
-            if (row != null) {
-                try {
-                    rowHandler.accept(row, data);
-                } catch (Exception e) {
-                    log.warn("Не могу распарсить таблицу '{}' в {}, строка {}",
-                            tableName, report, row.getRowNum() + 1, e);
+        for (List<T> partitionData : joinAll(partitionsData)) {
+            data.addAll(partitionData);
+        }
+        return data;
+    }
+
+    /**
+     * Resolves header by caller thread, so header exceptions are thrown same as by sequential methods.
+     *
+     * @return data rows, partitioned to {@link #PARTITIONS_PER_PROCESSOR} partitions per processor
+     */
+    private List<Spliterator<@Nullable TableRow>> getPartitions() {
+        header.get();
+        int firstRowNum = getFirstDataRowNum();
+        int endRowNum = getEndRowNum();
+        int partitionCount = PARTITIONS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors();
+        int partitionSize = Math.max(1, (endRowNum - firstRowNum + partitionCount - 1) / partitionCount);
+        List<Spliterator<@Nullable TableRow>> partitions = new ArrayList<>(partitionCount);
+        for (int i = firstRowNum; i < endRowNum; i += partitionSize) {
+            partitions.add(new TableSpliterator(i, Math.min(endRowNum, i + partitionSize)));
+        }
+        return partitions;
+    }
+
+    @RequiredArgsConstructor
+    private static final class RowData<T> {
+        private final int rowNum;
+        private final Collection<T> data;
+    }
+
+    /**
+     * Extracts objects from table with duplicate objects handling by key. Objects with equal keys are merged,
+     * merged object keeps position of first object with the key. Takes O(n) time
+     * in contrast to {@link #getDataCollection(Object, Function, BiPredicate, BiFunction)}.
+     *
+     * @param keyExtractor    returns key, objects with equal keys are duplicates
+     * @param mergeDuplicates returns merged object or null, if both objects should be removed
+     */
+    public <T, K> List<T> getDataCollection(Object report, Function<TableRow, @Nullable Collection<T>> rowExtractor,
+                                            Function<T, K> keyExtractor,
+                                            BiFunction<T, T, @Nullable T> mergeDuplicates) {
+        Map<K, T> data = handleRows(report, iterator(), new LinkedHashMap<>(),
+                getKeyedRowHandler(rowExtractor, keyExtractor, mergeDuplicates));
+        return new ArrayList<>(data.values());
+    }
+
+    /**
+     * Parallel version of {@link #getDataCollection(Object, Function, Function, BiFunction)}.
+     * Row extractor is called concurrently, duplicate objects are merged by caller thread in row order,
+     * so result is the same as for sequential version (including removal by null merge result).
+     *
+     * @apiNote Only row extraction is parallel. Merging is sequential and takes O(n) time on caller thread
+     * after all rows are extracted, so merge-heavy tables are not sped up by executor.
+     * @see #getData(Object, Function, Executor)
+     */
+    public <T, K> List<T> getDataCollection(Object report, Function<TableRow, @Nullable Collection<T>> rowExtractor,
+                                            Function<T, K> keyExtractor,
+                                            BiFunction<T, T, @Nullable T> mergeDuplicates,
+                                            Executor executor) {
+        List<RowData<T>> rowsData = getRowsData(report, rowExtractor, executor);
+        Map<K, T> data = new LinkedHashMap<>();
+        for (RowData<T> rowData : rowsData) {
+            try {
+                for (T r : rowData.data) {
+                    data.merge(keyExtractor.apply(r), r, mergeDuplicates);
                 }
+            } catch (Exception e) {
+                TableDataHelper.logRowError(tableName, report, rowData.rowNum, e);
             }
         }
-        return data;
+        return new ArrayList<>(data.values());
+    }
+
+    /**
+     * Waits for partition results. If any partition fails, not started partitions are cancelled
+     * and partition exception is thrown without {@link CompletionException} wrapper.
+     *
+     * @return partition results in partitions order
+     */
+    private static <D> List<D> joinAll(List<CompletableFuture<D>> partitionsData) {
+        List<D> result = new ArrayList<>(partitionsData.size());
+        try {
+            for (CompletableFuture<D> partitionData : partitionsData) {
+                result.add(partitionData.join());
+            }
+            return result;
+        } catch (CompletionException e) {
+            partitionsData.forEach(partitionData -> partitionData.cancel(false));
+            @Nullable Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static <T, K> BiConsumer<TableRow, Map<K, T>> getKeyedRowHandler(
+            Function<TableRow, @Nullable Collection<T>> rowExtractor,
+            Function<T, K> keyExtractor,
+            BiFunction<T, T, @Nullable T> mergeDuplicates) {
+        return (row, data) -> {
+            @Nullable Collection<T> result = rowExtractor.apply(row);
+            if (result != null) {
+                for (T r : result) {
+                    data.merge(keyExtractor.apply(r), r, mergeDuplicates);
+                }
+            }
+        };
     }
 
     public static <T> void addWithEqualityChecker(T element,
@@ -218,6 +536,37 @@ public abstract class AbstractTable<R extends ReportPageRow> implements Table {
         return StreamSupport.stream(spliterator(), false);
     }
 
+    /**
+     * Parallel stream of table rows, each parallel task gets its own {@link MutableTableRow} object.
+     * Call {@link TableRow#clone()} if you want to use row object outside stream() block.
+     *
+     * @apiNote Report page rows are read concurrently, report page impl should allow concurrent reading.
+     */
+    public Stream<@Nullable TableRow> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Spliterator which returns {@link MutableTableRow} or {@link EmptyTableRow}, splits table by row index.
+     *
+     * @implNote Each split has its own {@link MutableTableRow} object, which state is changed in each loop cycle.
+     */
+    @Override
+    public Spliterator<@Nullable TableRow> spliterator() {
+        return new TableSpliterator(getFirstDataRowNum(), getEndRowNum());
+    }
+
+    private int getFirstDataRowNum() {
+        return tableRange.getFirstRow() + dataRowOffset;
+    }
+
+    /**
+     * @return last table row number (exclusive)
+     */
+    private int getEndRowNum() {
+        return tableRange.getFirstRow() + getNumberOfTableRows(tableRange);
+    }
+
     /**
      * Iterator which returns {@link MutableTableRow} or {@link EmptyTableRow}.
      *
@@ -232,7 +581,7 @@ public abstract class AbstractTable<R extends ReportPageRow> implements Table {
 
     protected class TableIterator implements Iterator<TableRow> {
         private final MutableTableRow<R> tableRow =
-                new MutableTableRow<>(AbstractTable.this, getCellDataAccessObject());
+                new MutableTableRow<>(AbstractTable.this, getCellDataAccessObject(), header.get().columnIndices);
         private final int numberOfRows = getNumberOfTableRows(tableRange);
         private int i = dataRowOffset;
 
@@ -259,6 +608,76 @@ public abstract class AbstractTable<R extends ReportPageRow> implements Table {
         }
     }
 
+    /**
+     * Spliterator over table rows interval.
+     */
+    protected class TableSpliterator implements Spliterator<@Nullable TableRow> {
+        private @Nullable MutableTableRow<R> tableRow;
+        private int rowNum;
+        private final int endRowNum;
+
+        /**
+         * @param rowNum    first row number
+         * @param endRowNum last row number (exclusive)
+         */
+        protected TableSpliterator(int rowNum, int endRowNum) {
+            this.rowNum = rowNum;
+            this.endRowNum = endRowNum;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super @Nullable TableRow> action) {
+            if (rowNum < endRowNum) {
+                action.accept(getTableRow(rowNum++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super @Nullable TableRow> action) {
+            for (int n = endRowNum; rowNum < n; ) {
+                action.accept(getTableRow(rowNum++));
+            }
+        }
+
+        private TableRow getTableRow(int rowNum) {
+            @Nullable R row = getRow(rowNum);
+            if (row == null) {
+                return new EmptyTableRow(AbstractTable.this, rowNum);
+            }
+            @Nullable MutableTableRow<R> tableRow = this.tableRow;
+            if (tableRow == null) {
+                tableRow = new MutableTableRow<>(
+                        AbstractTable.this, getCellDataAccessObject(), header.get().columnIndices);
+                this.tableRow = tableRow;
+            }
+            tableRow.setRow(row);
+            return tableRow;
+        }
+
+        @Override
+        public @Nullable Spliterator<@Nullable TableRow> trySplit() {
+            int mid = rowNum + (endRowNum - rowNum) / 2;
+            if (mid <= rowNum) {
+                return null;
+            }
+            Spliterator<@Nullable TableRow> prefix = new TableSpliterator(rowNum, mid);
+            rowNum = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Math.max(0, endRowNum - rowNum);
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+
     @Override
     public @Nullable R getRow(int i) {
         return reportPage.getRow(i);
@@ -276,9 +695,26 @@ public abstract class AbstractTable<R extends ReportPageRow> implements Table {
         return getMutableTableRow(address);
     }
 
+    /**
+     * Addresses outside table rows are rejected without header resolution
+     */
+    private boolean contains(TableCellAddress address) {
+        return address != TableCellAddress.NOT_FOUND &&
+                tableRange.containsRow(address.getRow()) &&
+                getTableRange().contains(address);
+    }
+
+    /**
+     * @return table range, which columns are not narrowed by header description, header is not resolved
+     */
+    TableCellRange getRawTableRange() {
+        return tableRange;
+    }
+
     private @Nullable MutableTableRow<R> getMutableTableRow(TableCellAddress address) {
-        if (tableRange.contains(address)) {
-            MutableTableRow<R> tableRow = new MutableTableRow<>(this, getCellDataAccessObject());
+        if (contains(address)) {
+            MutableTableRow<R> tableRow =
+                    new MutableTableRow<>(this, getCellDataAccessObject(), header.get().columnIndices);
             @SuppressWarnings({"nullness", "ConstantConditions"})
             R row = requireNonNull(getRow(address.getRow()), "Row is empty");
             tableRow.setRow(row);
@@ -287,5 +723,13 @@ public abstract class AbstractTable<R extends ReportPageRow> implements Table {
         return null;
     }
 
+    /**
+     * Returns handle, which reads this table {@link MutableTableRow} values by this table {@link CellDataAccessObject}
+     */
+    @Override
+    public ColumnHandle column(TableHeaderColumn column) {
+        return ColumnHandle.of(column, header.get().columnIndices.getColumnIndex(column), getCellDataAccessObject());
+    }
+
     protected abstract CellDataAccessObject<?, R> getCellDataAccessObject();
 }
\ No newline at end of file
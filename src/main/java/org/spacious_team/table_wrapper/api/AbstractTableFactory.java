@@ -20,11 +20,15 @@ package org.spacious_team.table_wrapper.api;
 
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.Map;
+
 /**
- * {@link TableFactory} factory with specified {@link ReportPage}
+ * {@link TableFactory} factory with specified {@link ReportPage}.
+ * Also handles {@link AbstractForwardingReportPage} decorators of supported report page type.
  * @param <T> the factory supported {@link ReportPage} type and subtypes
  */
 @ToString
@@ -32,18 +36,46 @@ import lombok.ToString;
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class AbstractTableFactory<T extends ReportPage> implements TableFactory {
 
+    @Getter(AccessLevel.PACKAGE)
     private final Class<T> reportPageType;
 
     @Override
     public boolean canHandle(ReportPage reportPage) {
-        return reportPageType.isAssignableFrom(reportPage.getClass());
+        return reportPageType.isInstance(unwrap(reportPage));
     }
 
     /**
-     * Safe cast operation if {@link #canHandle(ReportPage)} is true
+     * Safe cast operation if {@link #canHandle(ReportPage)} is true.
+     * Decorated report page is unwrapped to supported report page type.
      */
     @SuppressWarnings({"unchecked", "unused"})
     protected T cast(ReportPage reportPage) {
-        return (T) reportPage;
+        return (T) unwrap(reportPage);
+    }
+
+    /**
+     * Creates table by {@link #create(ReportPage, String, TableCellRange, Class, int)}, header description
+     * of created {@link AbstractTable} is not resolved again
+     */
+    @Override
+    public <H extends Enum<H> & TableHeaderColumn>
+    Table create(ReportPage reportPage,
+                 String tableName,
+                 TableCellRange tableRange,
+                 Class<H> headerDescription,
+                 int headersRowCount,
+                 Map<TableColumn, Integer> resolvedHeaderDescription) {
+        Table table = create(reportPage, tableName, tableRange, headerDescription, headersRowCount);
+        if (table instanceof AbstractTable) {
+            ((AbstractTable<?>) table).setResolvedHeaderDescription(resolvedHeaderDescription, headerDescription);
+        }
+        return table;
+    }
+
+    private ReportPage unwrap(ReportPage reportPage) {
+        while (!reportPageType.isInstance(reportPage) && reportPage instanceof AbstractForwardingReportPage) {
+            reportPage = ((AbstractForwardingReportPage<?>) reportPage).getReportPage();
+        }
+        return reportPage;
     }
 }
\ No newline at end of file
@@ -19,11 +19,13 @@
 package org.spacious_team.table_wrapper.api;
 
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 import java.util.Arrays;
 
+import static lombok.AccessLevel.PACKAGE;
 import static lombok.AccessLevel.PRIVATE;
 
 @ToString
@@ -31,6 +33,7 @@ import static lombok.AccessLevel.PRIVATE;
 @RequiredArgsConstructor(access = PRIVATE)
 public class AnyOfTableColumn implements TableColumn {
 
+    @Getter(PACKAGE)
     private final TableColumn[] columns;
 
     public static AnyOfTableColumn of(TableColumn... columns) {
@@ -39,11 +42,9 @@ public class AnyOfTableColumn implements TableColumn {
 
     @Override
     public int getColumnIndex(int firstColumnForSearch, ReportPageRow... headerRows) {
-        for (TableColumn c : columns) {
-            try {
-                return c.getColumnIndex(firstColumnForSearch, headerRows);
-            } catch (RuntimeException ignore) {
-            }
+        int columnIndex = findColumnIndex(firstColumnForSearch, headerRows);
+        if (columnIndex != NOT_FOUND) {
+            return columnIndex;
         }
         String expected = String.join(", ",
                 Arrays.stream(columns)
@@ -51,4 +52,15 @@ public class AnyOfTableColumn implements TableColumn {
                         .toArray(String[]::new));
         throw new TableColumnNotFound("Header including '" + expected + "' is not found");
     }
+
+    @Override
+    public int findColumnIndex(int firstColumnForSearch, ReportPageRow... headerRows) {
+        for (TableColumn c : columns) {
+            int columnIndex = c.findColumnIndex(firstColumnForSearch, headerRows);
+            if (columnIndex != NOT_FOUND) {
+                return columnIndex;
+            }
+        }
+        return NOT_FOUND;
+    }
 }
@@ -20,7 +20,13 @@ package org.spacious_team.table_wrapper.api;
 
 import lombok.NoArgsConstructor;
 
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Date;
 import java.util.regex.Pattern;
 
 import static lombok.AccessLevel.PRIVATE;
@@ -31,4 +37,27 @@ final class CellDataAccessObjectHelper {
     static final ZoneId defaultZoneId = ZoneId.systemDefault();
     static final Pattern spacePattern = Pattern.compile("\\s");
     static final String NO_CELL_VALUE_EXCEPTION_MESSAGE = "Cell doesn't contains value";
+
+    /**
+     * Converts {@link Instant}, {@link ZonedDateTime}, {@link LocalDateTime}, {@link LocalDate} and {@link Date}
+     * values. String values are parsed by instant parser.
+     *
+     * @throws DateTimeException if value can't be converted
+     */
+    static Instant toInstant(Object value, InstantParser instantParser) {
+        if (value instanceof Instant) {
+            return (Instant) value;
+        } else if (value instanceof ZonedDateTime) {
+            return ((ZonedDateTime) value).toInstant();
+        } else if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).atZone(defaultZoneId).toInstant();
+        } else if (value instanceof LocalDate) {
+            return ((LocalDate) value).atStartOfDay(defaultZoneId).toInstant();
+        } else if (value instanceof Date) {
+            return ((Date) value).toInstant();
+        } else if (value instanceof String) {
+            return instantParser.parseInstant((String) value);
+        }
+        throw new DateTimeException("Not an instant: " + value);
+    }
 }
@@ -0,0 +1,55 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Table of report page, which cells are read by report page's own {@link CellDataAccessObject}
+ */
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+abstract class CellDataAccessObjectTable<R extends ReportPageRow, D extends CellDataAccessObject<?, R>>
+        extends AbstractTable<R> {
+
+    @Getter(AccessLevel.PROTECTED)
+    private final D cellDataAccessObject;
+
+    <T extends Enum<T> & TableHeaderColumn>
+    CellDataAccessObjectTable(AbstractReportPage<R> reportPage,
+                              D cellDataAccessObject,
+                              String tableName,
+                              TableCellRange tableRange,
+                              Class<T> headerDescription,
+                              int headersRowCount) {
+        super(reportPage, tableName, tableRange, headerDescription, headersRowCount);
+        this.cellDataAccessObject = cellDataAccessObject;
+    }
+
+    CellDataAccessObjectTable(CellDataAccessObjectTable<R, D> table,
+                              int appendDataRowsToTop,
+                              int appendDataRowsToBottom) {
+        super(table, appendDataRowsToTop, appendDataRowsToBottom);
+        this.cellDataAccessObject = table.cellDataAccessObject;
+    }
+}
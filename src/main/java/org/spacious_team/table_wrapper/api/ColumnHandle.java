@@ -0,0 +1,307 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Table column bound to resolved cell index and table's {@link CellDataAccessObject}. Returns the same values
+ * as {@link TableRow} getters, but without column index lookup on each call. Resolve handles once per table
+ * and use them in row extractor:
+ * <pre>
+ *     ColumnHandle amount = table.column(TableHeader.AMOUNT);
+ *     table.getData(report, row -> new Payment(amount.getBigDecimal(row)));
+ * </pre>
+ * Way of value reading is chosen once on handle creation, getters read cell by index only.
+ *
+ * @implSpec Handle should read rows of the table, which created it.
+ * @see Table#column(TableHeaderColumn)
+ */
+@ToString(of = {"column", "cellIndex"})
+public abstract class ColumnHandle {
+
+    private final TableHeaderColumn column;
+    /**
+     * Zero-based cell index or {@link ColumnIndices#NOT_FOUND} if column is not found in table header
+     */
+    @Getter
+    private final int cellIndex;
+
+    private ColumnHandle(TableHeaderColumn column, int cellIndex) {
+        this.column = column;
+        this.cellIndex = cellIndex;
+    }
+
+    /**
+     * Handle reads values by {@link TableCell} getters
+     */
+    static ColumnHandle of(TableHeaderColumn column, int cellIndex) {
+        return (cellIndex == ColumnIndices.NOT_FOUND) ?
+                new AbsentColumnHandle(column) :
+                new CellColumnHandle(column, cellIndex);
+    }
+
+    /**
+     * Handle reads values of {@link MutableTableRow} by DAO
+     */
+    static ColumnHandle of(TableHeaderColumn column, int cellIndex, CellDataAccessObject<?, ?> dao) {
+        return (cellIndex == ColumnIndices.NOT_FOUND) ?
+                new AbsentColumnHandle(column) :
+                new DaoColumnHandle(column, cellIndex, dao);
+    }
+
+    /**
+     * @return false if column is optional and not found in table header
+     */
+    public boolean isPresent() {
+        return cellIndex != ColumnIndices.NOT_FOUND;
+    }
+
+    /**
+     * @return cell value or null if cell is absent
+     * @throws NullPointerException if column is not found in table header
+     */
+    public abstract @Nullable Object getValue(TableRow row);
+
+    /**
+     * @throws RuntimeException if method can't extract int value
+     */
+    public abstract int getInt(TableRow row);
+
+    /**
+     * @throws RuntimeException if method can't extract long value
+     */
+    public abstract long getLong(TableRow row);
+
+    /**
+     * @throws RuntimeException if method can't extract double value
+     */
+    public abstract double getDouble(TableRow row);
+
+    /**
+     * @throws RuntimeException if method can't extract BigDecimal value
+     */
+    public abstract BigDecimal getBigDecimal(TableRow row);
+
+    /**
+     * @throws RuntimeException if method can't extract string value
+     */
+    public abstract String getString(TableRow row);
+
+    /**
+     * @throws RuntimeException if method can't extract instant value
+     */
+    public abstract Instant getInstant(TableRow row);
+
+    /**
+     * @throws RuntimeException if method can't extract local date time value
+     */
+    public abstract LocalDateTime getLocalDateTime(TableRow row);
+
+    /**
+     * Reads values by {@link TableCell} getters
+     */
+    private static class CellColumnHandle extends ColumnHandle {
+
+        CellColumnHandle(TableHeaderColumn column, int cellIndex) {
+            super(column, cellIndex);
+        }
+
+        @Override
+        public @Nullable Object getValue(TableRow row) {
+            @Nullable TableCell cell = row.getCell(getCellIndex());
+            return (cell == null) ? null : cell.getValue();
+        }
+
+        @Override
+        public int getInt(TableRow row) {
+            return getCell(row).getIntValue();
+        }
+
+        @Override
+        public long getLong(TableRow row) {
+            return getCell(row).getLongValue();
+        }
+
+        @Override
+        public double getDouble(TableRow row) {
+            return getCell(row).getDoubleValue();
+        }
+
+        @Override
+        public BigDecimal getBigDecimal(TableRow row) {
+            return getCell(row).getBigDecimalValue();
+        }
+
+        @Override
+        public String getString(TableRow row) {
+            return getCell(row).getStringValue();
+        }
+
+        @Override
+        public Instant getInstant(TableRow row) {
+            return getCell(row).getInstantValue();
+        }
+
+        @Override
+        public LocalDateTime getLocalDateTime(TableRow row) {
+            return getCell(row).getLocalDateTimeValue();
+        }
+
+        /**
+         * @return cell, caller throws {@link NullPointerException} if cell is absent
+         */
+        @SuppressWarnings({"nullness", "ConstantConditions"})
+        private TableCell getCell(TableRow row) {
+            return row.getCell(getCellIndex());
+        }
+    }
+
+    /**
+     * Reads {@link MutableTableRow} values by table's DAO, other rows (empty rows) are read by {@link TableCell}
+     * getters
+     */
+    private static final class DaoColumnHandle extends CellColumnHandle {
+        private final Integer boxedCellIndex;
+        private final CellDataAccessObject<?, ReportPageRow> dao;
+
+        @SuppressWarnings("unchecked")
+        DaoColumnHandle(TableHeaderColumn column, int cellIndex, CellDataAccessObject<?, ?> dao) {
+            super(column, cellIndex);
+            this.boxedCellIndex = cellIndex;
+            this.dao = (CellDataAccessObject<?, ReportPageRow>) dao;
+        }
+
+        @Override
+        public @Nullable Object getValue(TableRow row) {
+            return (row instanceof MutableTableRow) ?
+                    dao.getValue(((MutableTableRow<?>) row).getRow(), boxedCellIndex) :
+                    super.getValue(row);
+        }
+
+        @Override
+        public int getInt(TableRow row) {
+            return (row instanceof MutableTableRow) ?
+                    dao.getIntValue(((MutableTableRow<?>) row).getRow(), boxedCellIndex) :
+                    super.getInt(row);
+        }
+
+        @Override
+        public long getLong(TableRow row) {
+            return (row instanceof MutableTableRow) ?
+                    dao.getLongValue(((MutableTableRow<?>) row).getRow(), boxedCellIndex) :
+                    super.getLong(row);
+        }
+
+        @Override
+        public double getDouble(TableRow row) {
+            return (row instanceof MutableTableRow) ?
+                    dao.getDoubleValue(((MutableTableRow<?>) row).getRow(), boxedCellIndex) :
+                    super.getDouble(row);
+        }
+
+        @Override
+        public BigDecimal getBigDecimal(TableRow row) {
+            return (row instanceof MutableTableRow) ?
+                    dao.getBigDecimalValue(((MutableTableRow<?>) row).getRow(), boxedCellIndex) :
+                    super.getBigDecimal(row);
+        }
+
+        @Override
+        public String getString(TableRow row) {
+            return (row instanceof MutableTableRow) ?
+                    dao.getStringValue(((MutableTableRow<?>) row).getRow(), boxedCellIndex) :
+                    super.getString(row);
+        }
+
+        @Override
+        public Instant getInstant(TableRow row) {
+            return (row instanceof MutableTableRow) ?
+                    dao.getInstantValue(((MutableTableRow<?>) row).getRow(), boxedCellIndex) :
+                    super.getInstant(row);
+        }
+
+        @Override
+        public LocalDateTime getLocalDateTime(TableRow row) {
+            return (row instanceof MutableTableRow) ?
+                    dao.getLocalDateTimeValue(((MutableTableRow<?>) row).getRow(), boxedCellIndex) :
+                    super.getLocalDateTime(row);
+        }
+    }
+
+    /**
+     * Column is not found in table header, all getters throw {@link NullPointerException}
+     */
+    private static final class AbsentColumnHandle extends ColumnHandle {
+
+        AbsentColumnHandle(TableHeaderColumn column) {
+            super(column, ColumnIndices.NOT_FOUND);
+        }
+
+        @Override
+        public @Nullable Object getValue(TableRow row) {
+            throw cellNotFound();
+        }
+
+        @Override
+        public int getInt(TableRow row) {
+            throw cellNotFound();
+        }
+
+        @Override
+        public long getLong(TableRow row) {
+            throw cellNotFound();
+        }
+
+        @Override
+        public double getDouble(TableRow row) {
+            throw cellNotFound();
+        }
+
+        @Override
+        public BigDecimal getBigDecimal(TableRow row) {
+            throw cellNotFound();
+        }
+
+        @Override
+        public String getString(TableRow row) {
+            throw cellNotFound();
+        }
+
+        @Override
+        public Instant getInstant(TableRow row) {
+            throw cellNotFound();
+        }
+
+        @Override
+        public LocalDateTime getLocalDateTime(TableRow row) {
+            throw cellNotFound();
+        }
+
+        private NullPointerException cellNotFound() {
+            return new NullPointerException("Cell is not found: " + super.column);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Table header description, indexed by header enum constant ordinal. Column index of table header enum
+ * constant is found by array load, columns of other enums are found in header description map.
+ */
+final class ColumnIndices {
+
+    static final int NOT_FOUND = TableColumn.NOT_FOUND;
+    static final ColumnIndices EMPTY = new ColumnIndices(Collections.emptyMap(), null, new int[0]);
+
+    private final Map<TableColumn, Integer> headerDescription;
+    private final @Nullable Class<?> headerEnum;
+    private final int[] columnIndices;
+
+    private ColumnIndices(Map<TableColumn, Integer> headerDescription,
+                          @Nullable Class<?> headerEnum,
+                          int[] columnIndices) {
+        this.headerDescription = headerDescription;
+        this.headerEnum = headerEnum;
+        this.columnIndices = columnIndices;
+    }
+
+    static <T extends Enum<T> & TableHeaderColumn>
+    ColumnIndices of(Map<TableColumn, Integer> headerDescription, Class<T> headerEnum) {
+        @SuppressWarnings("nullness")
+        T[] constants = headerEnum.getEnumConstants();
+        int[] columnIndices = new int[constants.length];
+        Arrays.fill(columnIndices, NOT_FOUND);
+        for (T constant : constants) {
+            @Nullable Integer columnIndex = headerDescription.get(constant.getColumn());
+            if (columnIndex != null) {
+                columnIndices[constant.ordinal()] = columnIndex;
+            }
+        }
+        return new ColumnIndices(headerDescription, headerEnum, columnIndices);
+    }
+
+    /**
+     * @return column index or {@link #NOT_FOUND}
+     */
+    int getColumnIndex(TableHeaderColumn column) {
+        if (column instanceof Enum && ((Enum<?>) column).getDeclaringClass() == headerEnum) {
+            return columnIndices[((Enum<?>) column).ordinal()];
+        }
+        @Nullable Integer columnIndex = headerDescription.get(column.getColumn());
+        if (columnIndex == null) {
+            return NOT_FOUND;
+        }
+        return columnIndex;
+    }
+}
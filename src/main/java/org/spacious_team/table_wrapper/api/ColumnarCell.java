@@ -0,0 +1,77 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Reference to {@link ColumnarReportPage} cell, used by {@link ColumnarCellDataAccessObject}
+ */
+@ToString(of = {"rowNum", "columnIndex"})
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class ColumnarCell {
+
+    private final ColumnarReportPage reportPage;
+    @Getter
+    private final int rowNum;
+    @Getter
+    private final int columnIndex;
+
+    public @Nullable Object getValue() {
+        return reportPage.getValue(rowNum, columnIndex);
+    }
+
+    /**
+     * @return true if cell value is {@link Integer} or {@link Long}
+     */
+    boolean isIntegral() {
+        byte type = getType();
+        return type == ColumnarReportPage.INT || type == ColumnarReportPage.LONG;
+    }
+
+    boolean isDouble() {
+        return getType() == ColumnarReportPage.DOUBLE;
+    }
+
+    boolean isString() {
+        return getType() == ColumnarReportPage.STRING;
+    }
+
+    long getLong() {
+        return reportPage.getLong(rowNum, columnIndex);
+    }
+
+    double getDouble() {
+        return reportPage.getDouble(rowNum, columnIndex);
+    }
+
+    String getString() {
+        return reportPage.getString(rowNum, columnIndex);
+    }
+
+    private byte getType() {
+        return reportPage.getType(rowNum, columnIndex);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+
+import static java.util.Objects.requireNonNull;
+import static org.spacious_team.table_wrapper.api.CellDataAccessObjectHelper.NO_CELL_VALUE_EXCEPTION_MESSAGE;
+import static org.spacious_team.table_wrapper.api.CellDataAccessObjectHelper.toInstant;
+
+/**
+ * Reads {@link ColumnarReportPage} cell values. Numeric and string values are read without boxing.
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class ColumnarCellDataAccessObject implements CellDataAccessObject<ColumnarCell, ColumnarReportPageRow> {
+
+    public static final ColumnarCellDataAccessObject INSTANCE = new ColumnarCellDataAccessObject(InstantParser.INSTANCE);
+    /**
+     * Parses string cell values
+     */
+    private final InstantParser instantParser;
+
+    @Override
+    public @Nullable ColumnarCell getCell(ColumnarReportPageRow row, Integer cellIndex) {
+        return row.getColumnarCell(cellIndex);
+    }
+
+    @Override
+    public @Nullable Object getValue(ColumnarCell cell) {
+        return cell.getValue();
+    }
+
+    @Override
+    public long getLongValue(ColumnarCell cell) {
+        return cell.isIntegral() ?
+                cell.getLong() :
+                CellDataAccessObject.super.getLongValue(cell);
+    }
+
+    @Override
+    public double getDoubleValue(ColumnarCell cell) {
+        if (cell.isDouble()) {
+            return cell.getDouble();
+        } else if (cell.isIntegral()) {
+            return cell.getLong();
+        }
+        return CellDataAccessObject.super.getDoubleValue(cell);
+    }
+
+    @Override
+    public String getStringValue(ColumnarCell cell) {
+        return cell.isString() ?
+                cell.getString() :
+                CellDataAccessObject.super.getStringValue(cell);
+    }
+
+    /**
+     * Converts {@link Instant}, {@link ZonedDateTime}, {@link LocalDateTime}, {@link LocalDate} and {@link Date}
+     * cell values. String values are parsed by {@link InstantParser}.
+     */
+    @Override
+    public Instant getInstantValue(ColumnarCell cell) {
+        @SuppressWarnings({"nullness", "ConstantConditions"})
+        Object value = requireNonNull(getValue(cell), NO_CELL_VALUE_EXCEPTION_MESSAGE);
+        return toInstant(value, instantParser);
+    }
+
+    @Override
+    public @Nullable Object getValue(ColumnarReportPageRow row, Integer cellIndex) {
+        return row.getReportPage().getValue(row.getRowNum(), cellIndex);
+    }
+}
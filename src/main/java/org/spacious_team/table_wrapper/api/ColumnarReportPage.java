@@ -0,0 +1,349 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Report page copy, stored by columns in primitive arrays. Any {@link ReportPage} is copied by one pass
+ * over its cells, after that source report page (and underlying workbook) is not used and may be closed.
+ * Each column stores cell type tags, {@code long} values for integer cells, {@code double} values for
+ * floating point cells and dictionary codes for string cells. Other cell values are stored as objects.
+ * <p>
+ * Register {@link ColumnarTableFactory} to create tables from columnar report page:
+ * <pre>
+ *     TableFactoryRegistry.add(new ColumnarTableFactory());
+ *     ReportPage reportPage = ColumnarReportPage.of(excelSheet);
+ *     Table table = reportPage.create("Table name", TableHeader.class);
+ * </pre>
+ *
+ * @implSpec Only cell values are copied. Value conversions are made by {@link ColumnarCellDataAccessObject},
+ * so source report page specific conversions (for example, excel numeric date cells to instant) are not available.
+ * Cell with value equals to {@link Integer}, {@link Long}, {@link Double} or {@link String} value is found by
+ * {@link #find(Object, int, int, int, int)} without boxing.
+ */
+@ToString(of = {"lastRowNum"})
+public class ColumnarReportPage extends AbstractReportPage<ColumnarReportPageRow> {
+
+    static final byte ABSENT = 0;
+    static final byte NULL = 1;
+    static final byte INT = 2;
+    static final byte LONG = 3;
+    static final byte DOUBLE = 4;
+    static final byte STRING = 5;
+    static final byte OBJECT = 6;
+
+    @Getter
+    private final int lastRowNum;
+    @Getter
+    private final ColumnarCellDataAccessObject cellDataAccessObject;
+    private final BitSet presentRows;
+    private final int[] firstCellNums;
+    private final int[] lastCellNums;
+    private final Column[] columns;
+    private final String[] dictionary;
+    private final Map<String, Integer> dictionaryCodes;
+
+    protected ColumnarReportPage(ReportPage reportPage, ColumnarCellDataAccessObject cellDataAccessObject) {
+        this.lastRowNum = reportPage.getLastRowNum();
+        this.cellDataAccessObject = cellDataAccessObject;
+        int rowCount = max(0, lastRowNum + 1);
+        this.presentRows = new BitSet(rowCount);
+        this.firstCellNums = new int[rowCount];
+        this.lastCellNums = new int[rowCount];
+        List<Column> columnList = new ArrayList<>();
+        List<String> dictionaryList = new ArrayList<>();
+        Map<String, Integer> codes = new HashMap<>();
+        for (int i = 0; i < rowCount; i++) {
+            @Nullable ReportPageRow row = reportPage.getRow(i);
+            if (row == null) {
+                continue;
+            }
+            presentRows.set(i);
+            firstCellNums[i] = row.getFirstCellNum();
+            lastCellNums[i] = row.getLastCellNum();
+            for (@Nullable TableCell cell : row) {
+                if (cell == null) {
+                    continue;
+                }
+                int columnIndex = cell.getColumnIndex();
+                while (columnList.size() <= columnIndex) {
+                    columnList.add(new Column(rowCount));
+                }
+                @Nullable Object value = cell.getValue();
+                Column column = columnList.get(columnIndex);
+                if (value instanceof String) {
+                    String string = (String) value;
+                    @Nullable Integer code = codes.get(string);
+                    if (code == null) {
+                        code = dictionaryList.size();
+                        dictionaryList.add(string);
+                        codes.put(string, code);
+                    }
+                    column.setString(i, code);
+                } else {
+                    column.set(i, value);
+                }
+            }
+        }
+        this.columns = columnList.toArray(new Column[0]);
+        this.dictionary = dictionaryList.toArray(new String[0]);
+        this.dictionaryCodes = codes;
+    }
+
+    public static ColumnarReportPage of(ReportPage reportPage) {
+        return of(reportPage, ColumnarCellDataAccessObject.INSTANCE);
+    }
+
+    public static ColumnarReportPage of(ReportPage reportPage, ColumnarCellDataAccessObject cellDataAccessObject) {
+        return new ColumnarReportPage(reportPage, cellDataAccessObject);
+    }
+
+    @Override
+    public TableCellAddress find(Object value, int startRow, int endRow, int startColumn, int endColumn) {
+        int stringCode = -1;
+        if (value instanceof String) {
+            @Nullable Integer code = dictionaryCodes.get(value);
+            if (code == null) {
+                return TableCellAddress.NOT_FOUND;
+            }
+            stringCode = code;
+        }
+        int firstColumn = max(0, startColumn);
+        int lastColumn = min(endColumn, columns.length);
+        for (int i = presentRows.nextSetBit(max(0, startRow)), n = min(endRow, lastRowNum + 1);
+             i != -1 && i < n;
+             i = presentRows.nextSetBit(i + 1)) {
+            for (int j = firstColumn; j < lastColumn; j++) {
+                if (columns[j].valueEquals(i, value, stringCode)) {
+                    return TableCellAddress.of(i, j);
+                }
+            }
+        }
+        return TableCellAddress.NOT_FOUND;
+    }
+
+    @Override
+    public TableCellAddress find(int startRow, int endRow,
+                                 int startColumn, int endColumn,
+                                 Predicate<Object> cellValuePredicate) {
+        int firstColumn = max(0, startColumn);
+        int lastColumn = min(endColumn, columns.length);
+        for (int i = presentRows.nextSetBit(max(0, startRow)), n = min(endRow, lastRowNum + 1);
+             i != -1 && i < n;
+             i = presentRows.nextSetBit(i + 1)) {
+            for (int j = firstColumn; j < lastColumn; j++) {
+                @Nullable Object cellValue = getValue(i, j);
+                if (cellValue != null && cellValuePredicate.test(cellValue)) {
+                    return TableCellAddress.of(i, j);
+                }
+            }
+        }
+        return TableCellAddress.NOT_FOUND;
+    }
+
+    @Override
+    public @Nullable ColumnarReportPageRow getRow(int i) {
+        return (i >= 0 && presentRows.get(i)) ?
+                new ColumnarReportPageRow(this, i, firstCellNums[i], lastCellNums[i]) :
+                null;
+    }
+
+    /**
+     * Finds empty row without cell objects creation.
+     */
+    @Override
+    public int findEmptyRow(int startRow) {
+        for (int i = startRow; i <= lastRowNum; i++) {
+            if (i < 0 || !presentRows.get(i) || isBlankRow(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isBlankRow(int row) {
+        for (Column column : columns) {
+            byte type = column.types[row];
+            if (type != ABSENT && type != NULL && !(type == STRING && dictionary[column.strings[row]].isEmpty())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int getColumnCount() {
+        return columns.length;
+    }
+
+    byte getType(int row, int column) {
+        return (row >= 0 && row <= lastRowNum && column >= 0 && column < columns.length) ?
+                columns[column].types[row] :
+                ABSENT;
+    }
+
+    /**
+     * @return integer value of {@link #INT} and {@link #LONG} typed cell
+     */
+    long getLong(int row, int column) {
+        return columns[column].longs[row];
+    }
+
+    /**
+     * @return floating point value of {@link #DOUBLE} typed cell
+     */
+    double getDouble(int row, int column) {
+        return columns[column].doubles[row];
+    }
+
+    /**
+     * @return string value of {@link #STRING} typed cell
+     */
+    String getString(int row, int column) {
+        return dictionary[columns[column].strings[row]];
+    }
+
+    @Nullable
+    Object getValue(int row, int column) {
+        byte type = getType(row, column);
+        switch (type) {
+            case INT:
+                return (int) getLong(row, column);
+            case LONG:
+                return getLong(row, column);
+            case DOUBLE:
+                return getDouble(row, column);
+            case STRING:
+                return getString(row, column);
+            case OBJECT:
+                return columns[column].objects[row];
+            default:
+                return null;
+        }
+    }
+
+    boolean rowContains(int row, Object expected) {
+        int stringCode = -1;
+        if (expected instanceof String) {
+            @Nullable Integer code = dictionaryCodes.get(expected);
+            if (code == null) {
+                return false;
+            }
+            stringCode = code;
+        }
+        for (Column column : columns) {
+            if (column.valueEquals(row, expected, stringCode)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Column storage. Value arrays are allocated on first value of corresponding type.
+     */
+    private static final class Column {
+        private static final long[] NO_LONGS = new long[0];
+        private static final double[] NO_DOUBLES = new double[0];
+        private static final int[] NO_STRINGS = new int[0];
+        private static final @Nullable Object[] NO_OBJECTS = new Object[0];
+
+        private final byte[] types;
+        private long[] longs = NO_LONGS;
+        private double[] doubles = NO_DOUBLES;
+        private int[] strings = NO_STRINGS;
+        private @Nullable Object[] objects = NO_OBJECTS;
+
+        Column(int rowCount) {
+            this.types = new byte[rowCount];
+        }
+
+        void set(int row, @Nullable Object value) {
+            if (value == null) {
+                types[row] = NULL;
+            } else if (value instanceof Integer) {
+                types[row] = INT;
+                setLong(row, (Integer) value);
+            } else if (value instanceof Long) {
+                types[row] = LONG;
+                setLong(row, (Long) value);
+            } else if (value instanceof Double) {
+                types[row] = DOUBLE;
+                if (doubles.length == 0) {
+                    doubles = new double[types.length];
+                }
+                doubles[row] = (Double) value;
+            } else {
+                types[row] = OBJECT;
+                if (objects.length == 0) {
+                    objects = new Object[types.length];
+                }
+                objects[row] = value;
+            }
+        }
+
+        private void setLong(int row, long value) {
+            if (longs.length == 0) {
+                longs = new long[types.length];
+            }
+            longs[row] = value;
+        }
+
+        void setString(int row, int code) {
+            types[row] = STRING;
+            if (strings.length == 0) {
+                strings = new int[types.length];
+            }
+            strings[row] = code;
+        }
+
+        /**
+         * @param stringCode dictionary code of value if value is a string
+         */
+        boolean valueEquals(int row, Object value, int stringCode) {
+            switch (types[row]) {
+                case INT:
+                    return (value instanceof Integer) && longs[row] == (Integer) value;
+                case LONG:
+                    return (value instanceof Long) && longs[row] == (Long) value;
+                case DOUBLE:
+                    return (value instanceof Double) &&
+                            Double.doubleToLongBits(doubles[row]) == Double.doubleToLongBits((Double) value);
+                case STRING:
+                    return strings[row] == stringCode;
+                case OBJECT:
+                    return value.equals(objects[row]);
+                default:
+                    return false;
+            }
+        }
+    }
+}
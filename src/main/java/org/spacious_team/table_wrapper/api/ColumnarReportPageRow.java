@@ -0,0 +1,95 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Row of {@link ColumnarReportPage}
+ */
+@ToString(of = {"rowNum"})
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class ColumnarReportPageRow extends AbstractReportPageRow {
+
+    @Getter(AccessLevel.PACKAGE)
+    private final ColumnarReportPage reportPage;
+    @Getter
+    private final int rowNum;
+    @Getter
+    private final int firstCellNum;
+    @Getter
+    private final int lastCellNum;
+
+    @Override
+    public @Nullable ColumnarTableCell getCell(int i) {
+        @Nullable ColumnarCell cell = getColumnarCell(i);
+        return (cell == null) ? null : new ColumnarTableCell(cell, reportPage.getCellDataAccessObject());
+    }
+
+    @Nullable
+    ColumnarCell getColumnarCell(int i) {
+        return (reportPage.getType(rowNum, i) == ColumnarReportPage.ABSENT) ? null : new ColumnarCell(reportPage, rowNum, i);
+    }
+
+    @Override
+    public boolean rowContains(Object expected) {
+        return reportPage.rowContains(rowNum, expected);
+    }
+
+    /**
+     * Iterates over existing cells
+     */
+    @Override
+    public Iterator<@Nullable TableCell> iterator() {
+        return new Iterator<>() {
+            private int i = nextCell(0);
+
+            @Override
+            public boolean hasNext() {
+                return i != -1;
+            }
+
+            @Override
+            public TableCell next() {
+                @Nullable TableCell cell;
+                if (i == -1 || (cell = getCell(i)) == null) {
+                    throw new NoSuchElementException();
+                }
+                i = nextCell(i + 1);
+                return cell;
+            }
+        };
+    }
+
+    private int nextCell(int from) {
+        for (int i = Math.max(0, from), n = reportPage.getColumnCount(); i < n; i++) {
+            if (reportPage.getType(rowNum, i) != ColumnarReportPage.ABSENT) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
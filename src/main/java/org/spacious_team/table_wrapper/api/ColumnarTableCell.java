@@ -0,0 +1,39 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Cell of {@link ColumnarReportPage}
+ */
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class ColumnarTableCell extends AbstractTableCell<ColumnarCell> {
+
+    ColumnarTableCell(ColumnarCell cell, ColumnarCellDataAccessObject dao) {
+        super(cell, dao);
+    }
+
+    @Override
+    public int getColumnIndex() {
+        return getCell().getColumnIndex();
+    }
+}
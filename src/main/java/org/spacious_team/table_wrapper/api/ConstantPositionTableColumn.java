@@ -32,4 +32,9 @@ public class ConstantPositionTableColumn implements TableColumn {
     public int getColumnIndex(int firstColumnForSearch, ReportPageRow... headerRows) {
         return columnIndex;
     }
+
+    @Override
+    public int findColumnIndex(int firstColumnForSearch, ReportPageRow... headerRows) {
+        return columnIndex;
+    }
 }
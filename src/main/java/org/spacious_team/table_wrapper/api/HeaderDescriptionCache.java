@@ -0,0 +1,237 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded LRU cache of resolved header descriptions. Cache key is header enum class and header rows
+ * cell values with its positions, so tables with identical headers are resolved once.
+ * Cache is thread-safe, header description is resolved outside of cache lock.
+ * <p>
+ * Cache is disabled by default, enable it for all tables by
+ * <pre>
+ *     HeaderDescriptionCache.setDefault(HeaderDescriptionCache.of(1024));
+ * </pre>
+ *
+ * @implSpec Resolved header description is expected to depend on header rows cell values and positions only,
+ * which is true for all {@link TableColumn} implementations of this library. Use verify on hit mode
+ * to check custom {@link TableColumn} implementations.
+ */
+@Slf4j
+@ToString(of = {"maxSize", "verifyOnHit"})
+public final class HeaderDescriptionCache {
+
+    private static volatile @Nullable HeaderDescriptionCache defaultCache = null;
+    /**
+     * Cached value of header rows, which don't match header description, compared by identity
+     */
+    private static final Map<TableColumn, Integer> NOT_MATCHED = Collections.unmodifiableMap(new HashMap<>());
+
+    @Getter
+    private final int maxSize;
+    /**
+     * If true, header description is resolved on every cache hit and compared with cached one,
+     * resolved header description is returned and cached on mismatch
+     */
+    @Getter
+    private final boolean verifyOnHit;
+    private final Map<Key, Map<TableColumn, Integer>> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private HeaderDescriptionCache(int maxSize, boolean verifyOnHit) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size should be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.verifyOnHit = verifyOnHit;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Map<TableColumn, Integer>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public static HeaderDescriptionCache of(int maxSize) {
+        return of(maxSize, false);
+    }
+
+    /**
+     * @param verifyOnHit debug mode, if true, header description is resolved on every cache hit
+     *                    and compared with cached one
+     */
+    public static HeaderDescriptionCache of(int maxSize, boolean verifyOnHit) {
+        return new HeaderDescriptionCache(maxSize, verifyOnHit);
+    }
+
+    /**
+     * @return cache used by all tables or null if cache is disabled
+     */
+    public static @Nullable HeaderDescriptionCache getDefault() {
+        return defaultCache;
+    }
+
+    /**
+     * @param cache cache used by all tables, null disables cache
+     */
+    public static void setDefault(@Nullable HeaderDescriptionCache cache) {
+        defaultCache = cache;
+    }
+
+    /**
+     * @return cached or resolved header description
+     * @throws TableColumnNotFound if header description can't be resolved, nothing is cached
+     */
+    public <T extends Enum<T> & TableHeaderColumn>
+    Map<TableColumn, Integer> getHeaderDescription(ReportPageRow[] headerRows, Class<T> headerDescription) {
+        @SuppressWarnings("nullness")
+        Map<TableColumn, Integer> value = get(headerRows, headerDescription, true);
+        return value;
+    }
+
+    /**
+     * The same as {@link #getHeaderDescription(ReportPageRow[], Class)}, but header rows which don't match
+     * header description are cached too and exception is not created
+     *
+     * @return cached or resolved header description or null if header rows don't match header description
+     * @see HeaderMatcher#findHeaderDescription(ReportPageRow...)
+     */
+    public <T extends Enum<T> & TableHeaderColumn>
+    @Nullable Map<TableColumn, Integer> findHeaderDescription(ReportPageRow[] headerRows, Class<T> headerDescription) {
+        return get(headerRows, headerDescription, false);
+    }
+
+    private <T extends Enum<T> & TableHeaderColumn>
+    @Nullable Map<TableColumn, Integer> get(ReportPageRow[] headerRows,
+                                            Class<T> headerDescription,
+                                            boolean throwIfNotFound) {
+        Key key = Key.of(headerRows, headerDescription);
+        @Nullable Map<TableColumn, Integer> cachedValue;
+        synchronized (cache) {
+            cachedValue = cache.get(key);
+        }
+        if (cachedValue == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+            if (!verifyOnHit && (cachedValue != NOT_MATCHED || !throwIfNotFound)) {
+                return unwrap(cachedValue);
+            }
+        }
+        Map<TableColumn, Integer> value = throwIfNotFound ?
+                AbstractTable.resolveHeaderDescription(headerRows, headerDescription) :
+                wrap(HeaderMatcher.of(headerDescription).findHeaderDescription(headerRows));
+        if (cachedValue != null) {
+            if ((cachedValue == NOT_MATCHED) == (value == NOT_MATCHED) && cachedValue.equals(value)) {
+                return unwrap(cachedValue);
+            }
+            log.warn("Cached header description {} of {} doesn't match resolved one {}",
+                    String.valueOf(unwrap(cachedValue)), headerDescription.getName(), String.valueOf(unwrap(value)));
+        }
+        synchronized (cache) {
+            cache.put(key, value);
+        }
+        return unwrap(value);
+    }
+
+    private static Map<TableColumn, Integer> wrap(@Nullable Map<TableColumn, Integer> headerDescription) {
+        return (headerDescription == null) ? NOT_MATCHED : headerDescription;
+    }
+
+    private static @Nullable Map<TableColumn, Integer> unwrap(Map<TableColumn, Integer> headerDescription) {
+        return (headerDescription == NOT_MATCHED) ? null : headerDescription;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Removes all cached values, hit and miss counters are not reset
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Header enum class, header rows count, non-null cell values and their positions
+     */
+    @EqualsAndHashCode
+    private static final class Key {
+        private final Class<?> headerDescription;
+        private final int headerRowCount;
+        private final long[] positions;
+        private final Object[] values;
+
+        private Key(Class<?> headerDescription, int headerRowCount, long[] positions, Object[] values) {
+            this.headerDescription = headerDescription;
+            this.headerRowCount = headerRowCount;
+            this.positions = positions;
+            this.values = values;
+        }
+
+        static Key of(ReportPageRow[] headerRows, Class<?> headerDescription) {
+            List<Object> values = new ArrayList<>();
+            long[] positions = new long[16];
+            for (int i = 0; i < headerRows.length; i++) {
+                for (@Nullable TableCell cell : headerRows[i]) {
+                    if (cell != null) {
+                        @Nullable Object value = cell.getValue();
+                        if (value != null) {
+                            if (values.size() == positions.length) {
+                                positions = Arrays.copyOf(positions, positions.length * 2);
+                            }
+                            positions[values.size()] = ((long) i << 32) | cell.getColumnIndex();
+                            values.add((value instanceof CharSequence) ? value.toString() : value);
+                        }
+                    }
+                }
+            }
+            return new Key(headerDescription, headerRows.length,
+                    Arrays.copyOf(positions, values.size()), values.toArray());
+        }
+    }
+}
@@ -0,0 +1,564 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Header description resolver, compiled once for {@link TableHeaderColumn} enum. Resolves the same header
+ * description as evaluating all enum columns one by one, but
+ * <ul>
+ *     <li>header cell texts are read from header rows once;</li>
+ *     <li>literal words of all {@link PatternTableColumn}s are searched in each header cell text by one
+ *     Aho–Corasick automaton pass, regex words are matched by {@link Pattern} on demand;</li>
+ *     <li>equal sub-columns of {@link AnyOfTableColumn}, {@link MultiLineTableColumn}, {@link OptionalTableColumn}
+ *     and {@link RelativePositionTableColumn} are compiled to one node, pattern column search results are memoized.</li>
+ * </ul>
+ * Other {@link TableColumn} implementations (and subclasses of listed ones) are evaluated as is.
+ */
+@Slf4j
+@ToString(of = "headerDescription")
+public final class HeaderMatcher {
+
+    private static final ClassValue<HeaderMatcher> matchers = new ClassValue<>() {
+        @Override
+        protected HeaderMatcher computeValue(Class<?> type) {
+            return new HeaderMatcher(type);
+        }
+    };
+    private static final int ALL_ROWS = -1;
+
+    private final Class<?> headerDescription;
+    private final TableColumn[] columns;
+    private final Node[] columnNodes;
+    private final int patternNodeCount;
+    private final Pattern[] regexes;
+    private final LiteralMatcher literalMatcher;
+    /**
+     * False if all columns are {@link ConstantPositionTableColumn}s
+     */
+    @Getter
+    private final boolean headerRowsRequired;
+
+    private HeaderMatcher(Class<?> headerDescription) {
+        this.headerDescription = headerDescription;
+        @SuppressWarnings("nullness")
+        TableColumn[] columns = Arrays.stream(headerDescription.getEnumConstants())
+                .map(c -> ((TableHeaderColumn) c).getColumn())
+                .toArray(TableColumn[]::new);
+        this.columns = columns;
+        Compiler compiler = new Compiler();
+        this.columnNodes = Arrays.stream(columns)
+                .map(compiler::compile)
+                .toArray(Node[]::new);
+        this.patternNodeCount = compiler.patternNodeCount;
+        this.regexes = compiler.regexes.toArray(new Pattern[0]);
+        this.literalMatcher = new LiteralMatcher(compiler.literals);
+        this.headerRowsRequired = !Arrays.stream(columns)
+                .allMatch(column -> column.getClass() == ConstantPositionTableColumn.class);
+    }
+
+    /**
+     * @return header matcher, compiled on first call for enum class
+     */
+    public static <T extends Enum<T> & TableHeaderColumn> HeaderMatcher of(Class<T> headerDescription) {
+        return matchers.get(headerDescription);
+    }
+
+    /**
+     * @return column indices of found columns, optional columns which are not found are excluded
+     * @throws TableColumnNotFound if required column is not found
+     */
+    public Map<TableColumn, Integer> getHeaderDescription(ReportPageRow... headerRows) {
+        @SuppressWarnings("nullness")
+        Map<TableColumn, Integer> columnIndices = resolve(headerRows, true);
+        return columnIndices;
+    }
+
+    /**
+     * The same as {@link #getHeaderDescription(ReportPageRow...)}, but doesn't create exception
+     * if required column is not found. Not found columns, which wrap {@link OptionalTableColumn}
+     * or other {@link TableColumn} implementations, are still evaluated
+     * by {@link TableColumn#getColumnIndex(ReportPageRow...)} to distinguish optional columns.
+     *
+     * @return column indices of found columns or null if required column is not found
+     */
+    public @Nullable Map<TableColumn, Integer> findHeaderDescription(ReportPageRow... headerRows) {
+        return resolve(headerRows, false);
+    }
+
+    /**
+     * @return column indices or null if required column is not found and throwIfNotFound is false
+     * @throws TableColumnNotFound if required column is not found and throwIfNotFound is true
+     */
+    private @Nullable Map<TableColumn, Integer> resolve(ReportPageRow[] headerRows, boolean throwIfNotFound) {
+        Resolution resolution = new Resolution(headerRows);
+        Map<TableColumn, Integer> columnIndices = new HashMap<>();
+        for (int i = 0; i < columns.length; i++) {
+            TableColumn column = columns[i];
+            Node node = columnNodes[i];
+            int columnIndex = node.findColumnIndex(resolution);
+            if (columnIndex != TableColumn.NOT_FOUND) {
+                columnIndices.put(column, columnIndex);
+            } else if (node instanceof OptionalNode) {
+                log.debug("Optional header column is not found: {}", column);
+            } else if (throwIfNotFound) {
+                putColumnIndex(columnIndices, column, headerRows);
+            } else if (!node.isOptionalNotFoundPossible()) {
+                return null;
+            } else {
+                try {
+                    putColumnIndex(columnIndices, column, headerRows);
+                } catch (TableColumnNotFound e) {
+                    return null;
+                }
+            }
+        }
+        return unmodifiableMap(columnIndices);
+    }
+
+    /**
+     * Evaluates not found column to throw column's exception
+     *
+     * @throws TableColumnNotFound if required column is not found
+     */
+    private static void putColumnIndex(Map<TableColumn, Integer> columnIndices,
+                                       TableColumn column,
+                                       ReportPageRow[] headerRows) {
+        try {
+            columnIndices.put(column, column.getColumnIndex(headerRows));
+        } catch (OptionalTableColumnNotFound e) {
+            log.debug("Optional header column is not found: {}", column, e);
+        }
+    }
+
+    private static ReportPageRow[] getRows(ReportPageRow[] headerRows, int rows) {
+        return (rows == ALL_ROWS) ? headerRows : new ReportPageRow[]{headerRows[rows]};
+    }
+
+    /**
+     * Compiles columns to nodes, equal columns are compiled to the same node
+     */
+    private static class Compiler {
+        private final Map<TableColumn, Node> nodes = new HashMap<>();
+        private final Map<String, Integer> literalIds = new HashMap<>();
+        private final List<String> literals = new ArrayList<>();
+        private final Map<String, Integer> regexIds = new HashMap<>();
+        private final List<Pattern> regexes = new ArrayList<>();
+        private int patternNodeCount = 0;
+
+        Node compile(TableColumn column) {
+            @Nullable Node node = nodes.get(column);
+            if (node == null) {
+                node = create(column);
+                nodes.put(column, node);
+            }
+            return node;
+        }
+
+        private Node create(TableColumn column) {
+            Class<?> type = column.getClass();
+            if (type == PatternTableColumn.class) {
+                return createPatternNode((PatternTableColumn) column);
+            } else if (type == AnyOfTableColumn.class) {
+                return new AnyOfNode(compile(((AnyOfTableColumn) column).getColumns()));
+            } else if (type == MultiLineTableColumn.class) {
+                return new MultiLineNode(compile(((MultiLineTableColumn) column).getRowDescriptors()));
+            } else if (type == OptionalTableColumn.class) {
+                return new OptionalNode(compile(((OptionalTableColumn) column).getColumn()));
+            } else if (type == RelativePositionTableColumn.class) {
+                RelativePositionTableColumn relativeColumn = (RelativePositionTableColumn) column;
+                return new RelativePositionNode(compile(relativeColumn.getColumn()), relativeColumn.getPositionOffset());
+            }
+            return new GenericNode(column);
+        }
+
+        private Node[] compile(TableColumn[] columns) {
+            return Arrays.stream(columns)
+                    .map(this::compile)
+                    .toArray(Node[]::new);
+        }
+
+        private Node createPatternNode(PatternTableColumn column) {
+            List<Integer> literalIdList = new ArrayList<>();
+            List<Integer> regexIdList = new ArrayList<>();
+            for (Pattern pattern : column.getPatterns()) {
+                @Nullable String literal = toLiteral(pattern.pattern());
+                if (literal != null) {
+                    literalIdList.add(getId(literal, literalIds, literals));
+                } else {
+                    regexIdList.add(getId(pattern.pattern(), regexIds, regexes, pattern));
+                }
+            }
+            return new PatternNode(
+                    patternNodeCount++,
+                    literalIdList.stream().mapToInt(i -> i).toArray(),
+                    regexIdList.stream().mapToInt(i -> i).toArray());
+        }
+
+        private static <T> int getId(String key, Map<String, Integer> ids, List<T> values, T value) {
+            @Nullable Integer id = ids.get(key);
+            if (id == null) {
+                id = values.size();
+                values.add(value);
+                ids.put(key, id);
+            }
+            return id;
+        }
+
+        private static int getId(String literal, Map<String, Integer> ids, List<String> values) {
+            return getId(literal, ids, values, literal);
+        }
+
+        /**
+         * Returns case folded literal if regex is a plain text, which is matched by
+         * {@link Pattern#CASE_INSENSITIVE} and {@link Pattern#UNICODE_CASE} flagged pattern
+         * char by char the same way as case folded text contains case folded literal.
+         *
+         * @return case folded literal or null if regex should be matched by {@link Pattern}
+         */
+        private static @Nullable String toLiteral(String regex) {
+            if (regex.length() < 2) {
+                return null; // single char pattern is matched by other rules
+            }
+            char[] chars = new char[regex.length()];
+            for (int i = 0; i < chars.length; i++) {
+                char c = regex.charAt(i);
+                char folded = fold(c);
+                if ("\\^$.|?*+()[]{}".indexOf(c) != -1 || Character.isSurrogate(c) || fold(folded) != folded) {
+                    return null;
+                }
+                chars[i] = folded;
+            }
+            return new String(chars);
+        }
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Header cell texts and it's literal matches
+     */
+    private class Resolution {
+        private final ReportPageRow[] headerRows;
+        private final int[][] columnIndices;
+        private final String[][] texts;
+        private final BitSet[][] literalMatches;
+        /**
+         * Regex match results by regex id: 0 - not tested, 1 - matched, 2 - not matched
+         */
+        private final byte[][][] regexMatches;
+        private final @Nullable Map<Long, Integer>[] patternResults;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Resolution(ReportPageRow[] headerRows) {
+            int rowCount = headerRows.length;
+            this.headerRows = headerRows;
+            this.columnIndices = new int[rowCount][];
+            this.texts = new String[rowCount][];
+            this.literalMatches = new BitSet[rowCount][];
+            this.regexMatches = new byte[rowCount][][];
+            this.patternResults = new Map[patternNodeCount];
+            for (int i = 0; i < rowCount; i++) {
+                List<TableCell> textCells = new ArrayList<>();
+                for (@Nullable TableCell cell : headerRows[i]) {
+                    if (cell != null && cell.getValue() instanceof CharSequence) { // the same check as PatternTableColumn does
+                        textCells.add(cell);
+                    }
+                }
+                int cellCount = textCells.size();
+                columnIndices[i] = new int[cellCount];
+                texts[i] = new String[cellCount];
+                literalMatches[i] = new BitSet[cellCount];
+                regexMatches[i] = new byte[cellCount][];
+                for (int j = 0; j < cellCount; j++) {
+                    TableCell cell = textCells.get(j);
+                    String text = String.valueOf(cell.getValue());
+                    columnIndices[i][j] = cell.getColumnIndex();
+                    texts[i][j] = text;
+                    literalMatches[i][j] = literalMatcher.match(text);
+                    regexMatches[i][j] = new byte[regexes.length];
+                }
+            }
+        }
+
+        boolean matches(int row, int cell, int[] literalIds, int[] regexIds) {
+            BitSet literals = literalMatches[row][cell];
+            for (int literalId : literalIds) {
+                if (!literals.get(literalId)) {
+                    return false;
+                }
+            }
+            byte[] regexResults = regexMatches[row][cell];
+            for (int regexId : regexIds) {
+                if (regexResults[regexId] == 0) {
+                    regexResults[regexId] = regexes[regexId].matcher(texts[row][cell]).find() ? (byte) 1 : (byte) 2;
+                }
+                if (regexResults[regexId] != 1) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Map<Long, Integer> getPatternResults(int patternNodeId) {
+            @Nullable Map<Long, Integer> results = patternResults[patternNodeId];
+            if (results == null) {
+                results = new HashMap<>();
+                patternResults[patternNodeId] = results;
+            }
+            return results;
+        }
+    }
+
+    private abstract static class Node {
+
+        /**
+         * Evaluates header column, the same as {@link TableColumn#findColumnIndex(int, ReportPageRow...)} does
+         */
+        int findColumnIndex(Resolution resolution) {
+            return findColumnIndex(resolution, 0, ALL_ROWS);
+        }
+
+        /**
+         * @param rows all header rows if {@link #ALL_ROWS} or header row index otherwise
+         * @return column index or {@link TableColumn#NOT_FOUND}
+         */
+        abstract int findColumnIndex(Resolution resolution, int firstColumnForSearch, int rows);
+
+        /**
+         * @return true if not found column may throw {@link OptionalTableColumnNotFound}, column should be
+         * evaluated by {@link TableColumn#getColumnIndex(ReportPageRow...)} to find out
+         */
+        boolean isOptionalNotFoundPossible() {
+            return false;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class PatternNode extends Node {
+        private final int id;
+        private final int[] literalIds;
+        private final int[] regexIds;
+
+        @Override
+        int findColumnIndex(Resolution resolution, int firstColumnForSearch, int rows) {
+            Map<Long, Integer> results = resolution.getPatternResults(id);
+            long key = ((long) rows << 32) | (firstColumnForSearch & 0xFFFFFFFFL);
+            @Nullable Integer result = results.get(key);
+            if (result == null) {
+                result = find(resolution, firstColumnForSearch, rows);
+                results.put(key, result);
+            }
+            return result;
+        }
+
+        private int find(Resolution resolution, int firstColumnForSearch, int rows) {
+            int firstRow = (rows == ALL_ROWS) ? 0 : rows;
+            int lastRow = (rows == ALL_ROWS) ? resolution.headerRows.length - 1 : rows;
+            for (int i = firstRow; i <= lastRow; i++) {
+                int[] columnIndices = resolution.columnIndices[i];
+                for (int j = 0; j < columnIndices.length; j++) {
+                    if (columnIndices[j] >= firstColumnForSearch && resolution.matches(i, j, literalIds, regexIds)) {
+                        return columnIndices[j];
+                    }
+                }
+            }
+            return TableColumn.NOT_FOUND;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class AnyOfNode extends Node {
+        private final Node[] nodes;
+
+        @Override
+        int findColumnIndex(Resolution resolution, int firstColumnForSearch, int rows) {
+            for (Node node : nodes) {
+                int columnIndex = node.findColumnIndex(resolution, firstColumnForSearch, rows);
+                if (columnIndex != TableColumn.NOT_FOUND) {
+                    return columnIndex;
+                }
+            }
+            return TableColumn.NOT_FOUND;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class MultiLineNode extends Node {
+        private final Node[] rowNodes;
+
+        @Override
+        boolean isOptionalNotFoundPossible() {
+            return Arrays.stream(rowNodes).anyMatch(Node::isOptionalNotFoundPossible);
+        }
+
+        @Override
+        int findColumnIndex(Resolution resolution, int firstColumnForSearch, int rows) {
+            int rowCount = (rows == ALL_ROWS) ? resolution.headerRows.length : 1;
+            if (rowCount != rowNodes.length) {
+                return TableColumn.NOT_FOUND;
+            }
+            int columnIndex = firstColumnForSearch;
+            for (int i = 0; i < rowCount && columnIndex != TableColumn.NOT_FOUND; i++) {
+                columnIndex = rowNodes[i].findColumnIndex(resolution, columnIndex, (rows == ALL_ROWS) ? i : rows);
+            }
+            return columnIndex;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class OptionalNode extends Node {
+        private final Node node;
+
+        @Override
+        boolean isOptionalNotFoundPossible() {
+            return true;
+        }
+
+        @Override
+        int findColumnIndex(Resolution resolution, int firstColumnForSearch, int rows) {
+            return node.findColumnIndex(resolution, firstColumnForSearch, rows);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class RelativePositionNode extends Node {
+        private final Node node;
+        private final int positionOffset;
+
+        @Override
+        boolean isOptionalNotFoundPossible() {
+            return node.isOptionalNotFoundPossible();
+        }
+
+        @Override
+        int findColumnIndex(Resolution resolution, int firstColumnForSearch, int rows) {
+            int columnIndex = node.findColumnIndex(resolution, firstColumnForSearch, rows);
+            return (columnIndex == TableColumn.NOT_FOUND) ? TableColumn.NOT_FOUND : columnIndex + positionOffset;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class GenericNode extends Node {
+        private final TableColumn column;
+
+        @Override
+        boolean isOptionalNotFoundPossible() {
+            return true;
+        }
+
+        @Override
+        int findColumnIndex(Resolution resolution) {
+            return column.findColumnIndex(0, resolution.headerRows);
+        }
+
+        @Override
+        int findColumnIndex(Resolution resolution, int firstColumnForSearch, int rows) {
+            return column.findColumnIndex(firstColumnForSearch, getRows(resolution.headerRows, rows));
+        }
+    }
+
+    /**
+     * Aho–Corasick automaton over case folded literals
+     */
+    private static class LiteralMatcher {
+        private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+        private final int[] failures;
+        private final BitSet[] outputs;
+        private final int literalCount;
+
+        LiteralMatcher(List<String> literals) {
+            this.literalCount = literals.size();
+            List<BitSet> outputList = new ArrayList<>();
+            transitions.add(new HashMap<>());
+            outputList.add(new BitSet());
+            for (int id = 0; id < literals.size(); id++) {
+                int state = 0;
+                for (char c : literals.get(id).toCharArray()) {
+                    @Nullable Integer next = transitions.get(state).get(c);
+                    if (next == null) {
+                        next = transitions.size();
+                        transitions.add(new HashMap<>());
+                        outputList.add(new BitSet());
+                        transitions.get(state).put(c, next);
+                    }
+                    state = next;
+                }
+                outputList.get(state).set(id);
+            }
+            this.outputs = outputList.toArray(new BitSet[0]);
+            this.failures = new int[transitions.size()];
+            Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+            while (!queue.isEmpty()) {
+                int state = queue.remove();
+                for (Map.Entry<Character, Integer> transition : transitions.get(state).entrySet()) {
+                    int next = transition.getValue();
+                    int failure = failures[state];
+                    while (state != 0 && failure != 0 && !transitions.get(failure).containsKey(transition.getKey())) {
+                        failure = failures[failure];
+                    }
+                    @Nullable Integer failureNext = transitions.get(failure).get(transition.getKey());
+                    failures[next] = (state != 0 && failureNext != null) ? failureNext : 0;
+                    outputs[next].or(outputs[failures[next]]);
+                    queue.add(next);
+                }
+            }
+        }
+
+        /**
+         * @return ids of literals, contained by case folded text
+         */
+        BitSet match(String text) {
+            BitSet matches = new BitSet(literalCount);
+            if (literalCount == 0) {
+                return matches;
+            }
+            int state = 0;
+            for (int i = 0, n = text.length(); i < n; i++) {
+                char c = fold(text.charAt(i));
+                @Nullable Integer next;
+                while ((next = transitions.get(state).get(c)) == null && state != 0) {
+                    state = failures[state];
+                }
+                state = (next == null) ? 0 : next;
+                matches.or(outputs[state]);
+            }
+            return matches;
+        }
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.ReportPageHelper.StringIgnoreCasePrefixPredicate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static org.spacious_team.table_wrapper.api.ReportPageHelper.normalizeCellStringValue;
+
+/**
+ * Report page decorator, which builds cell value indices on first search. Index is built by
+ * one pass over all page cells, then each {@link #find(Object, int, int, int, int)} call costs hash lookup
+ * and binary search over row bounds. Each {@link #findByPrefix(String, int, int, int, int)} call costs
+ * binary search over sorted normalized cell string values and logarithmic number of binary searches
+ * over address sorted blocks of matched values. Predicates made by string prefix, used by
+ * {@link #getTableCellRange(String, int, String)} and {@link #create(String, Class)} methods family,
+ * are served by prefix index too. Empty rows are found by {@link RowSummary}.
+ * Use it if many tables are created from one report page.
+ * <p>
+ * Usage example:
+ * <pre>
+ *     ReportPage reportPage = IndexedReportPage.of(excelSheet);
+ *     Table table = reportPage.create("Table name", TableHeader.class);
+ * </pre>
+ *
+ * @implSpec Cell values are indexed as is, so {@link #find(Object, int, int, int, int)} finds exact value
+ * the same as wrapped report page does, {@code find(1)} doesn't find cell with {@code 1.0} value.
+ * @implNote Index is not updated if wrapped report page is modified after first search.
+ */
+public class IndexedReportPage<R extends ReportPageRow> extends AbstractForwardingReportPage<R> {
+
+    private volatile @Nullable Map<Object, long[]> valueIndex;
+    private volatile @Nullable PrefixIndex prefixIndex;
+    private volatile @Nullable RowSummary rowSummary;
+
+    protected IndexedReportPage(AbstractReportPage<R> reportPage) {
+        super(reportPage);
+    }
+
+    public static <R extends ReportPageRow> IndexedReportPage<R> of(AbstractReportPage<R> reportPage) {
+        return new IndexedReportPage<>(reportPage);
+    }
+
+    @Override
+    public TableCellAddress find(Object value, int startRow, int endRow, int startColumn, int endColumn) {
+        long @Nullable [] addresses = getValueIndex().get(value);
+        if (addresses == null) {
+            return TableCellAddress.NOT_FOUND;
+        }
+        int i = Arrays.binarySearch(addresses, toLong(max(0, startRow), 0));
+        for (i = (i < 0) ? (-i - 1) : i; i < addresses.length; i++) {
+            long address = addresses[i];
+            int row = getRowNum(address);
+            if (row >= endRow) {
+                break;
+            }
+            int column = getColumnNum(address);
+            if (startColumn <= column && column < endColumn) {
+                return TableCellAddress.of(row, column);
+            }
+        }
+        return TableCellAddress.NOT_FOUND;
+    }
+
+    @Override
+    public TableCellAddress find(int startRow, int endRow,
+                                 int startColumn, int endColumn,
+                                 Predicate<Object> cellValuePredicate) {
+        if (cellValuePredicate instanceof StringIgnoreCasePrefixPredicate) {
+            String lowercasePrefix = ((StringIgnoreCasePrefixPredicate) cellValuePredicate).getLowercasePrefix();
+            return getPrefixIndex().find(lowercasePrefix, startRow, endRow, startColumn, endColumn);
+        }
+        return super.find(startRow, endRow, startColumn, endColumn, cellValuePredicate);
+    }
+
+    /**
+     * Predicates made by string prefix are served by prefix index, other predicates are tested
+     * by one pass over wrapped report page.
+     */
+    @Override
+    public List<TableCellAddress> findFirstMatches(List<Predicate<Object>> cellValuePredicates,
+                                                   int startRow, int endRow,
+                                                   int startColumn, int endColumn) {
+        int count = cellValuePredicates.size();
+        TableCellAddress[] addresses = new TableCellAddress[count];
+        List<Predicate<Object>> notIndexedPredicates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Predicate<Object> predicate = cellValuePredicates.get(i);
+            if (predicate instanceof StringIgnoreCasePrefixPredicate) {
+                addresses[i] = find(startRow, endRow, startColumn, endColumn, predicate);
+            } else {
+                notIndexedPredicates.add(predicate);
+            }
+        }
+        if (!notIndexedPredicates.isEmpty()) {
+            Iterator<TableCellAddress> it = super.findFirstMatches(
+                    notIndexedPredicates, startRow, endRow, startColumn, endColumn).iterator();
+            for (int i = 0; i < count; i++) {
+                if (addresses[i] == null) {
+                    addresses[i] = it.next();
+                }
+            }
+        }
+        return Arrays.asList(addresses);
+    }
+
+    /**
+     * Finds cell address staring with value (ignore case, trims leading spaces) using prefix index.
+     */
+    @Override
+    public TableCellAddress findByPrefix(@Nullable String prefix, int startRow, int endRow, int startColumn, int endColumn) {
+        return (prefix == null || prefix.isEmpty()) ?
+                TableCellAddress.NOT_FOUND :
+                getPrefixIndex().find(normalizeCellStringValue(prefix), startRow, endRow, startColumn, endColumn);
+    }
+
+    /**
+     * Finds empty row by row summary, built on first call.
+     */
+    @Override
+    public int findEmptyRow(int startRow) {
+        return getRowSummary().findEmptyRow(startRow);
+    }
+
+    /**
+     * @return row summary of wrapped report page, built on first call
+     */
+    public RowSummary getRowSummary() {
+        @Nullable RowSummary summary = rowSummary;
+        if (summary == null) {
+            synchronized (this) {
+                summary = rowSummary;
+                if (summary == null) {
+                    rowSummary = summary = RowSummary.of(getReportPage());
+                }
+            }
+        }
+        return summary;
+    }
+
+    private Map<Object, long[]> getValueIndex() {
+        @Nullable Map<Object, long[]> index = valueIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = valueIndex;
+                if (index == null) {
+                    valueIndex = index = buildValueIndex();
+                }
+            }
+        }
+        return index;
+    }
+
+    private Map<Object, long[]> buildValueIndex() {
+        Map<Object, AddressList> index = new HashMap<>();
+        for (int i = 0, n = getLastRowNum(); i <= n; i++) {
+            @Nullable ReportPageRow row = getRow(i);
+            if (row == null) {
+                continue;
+            }
+            for (@Nullable TableCell cell : row) {
+                @Nullable Object value;
+                if (cell != null && (value = cell.getValue()) != null) {
+                    index.computeIfAbsent(value, $ -> new AddressList())
+                            .add(toLong(i, cell.getColumnIndex()));
+                }
+            }
+        }
+        Map<Object, long[]> result = new HashMap<>(index.size() * 4 / 3 + 1);
+        index.forEach((value, addresses) -> result.put(value, addresses.toSortedArray()));
+        return result;
+    }
+
+    private PrefixIndex getPrefixIndex() {
+        @Nullable PrefixIndex index = prefixIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = prefixIndex;
+                if (index == null) {
+                    prefixIndex = index = buildPrefixIndex();
+                }
+            }
+        }
+        return index;
+    }
+
+    private PrefixIndex buildPrefixIndex() {
+        List<PrefixIndexEntry> entries = new ArrayList<>();
+        for (int i = 0, n = getLastRowNum(); i <= n; i++) {
+            @Nullable ReportPageRow row = getRow(i);
+            if (row == null) {
+                continue;
+            }
+            for (@Nullable TableCell cell : row) {
+                if (cell != null) {
+                    @Nullable Object value = cell.getValue();
+                    if (value instanceof String) {
+                        entries.add(new PrefixIndexEntry(
+                                normalizeCellStringValue((String) value),
+                                toLong(i, cell.getColumnIndex())));
+                    }
+                }
+            }
+        }
+        entries.sort(Comparator.comparing((PrefixIndexEntry e) -> e.value)
+                .thenComparingLong(e -> e.address));
+        return new PrefixIndex(entries);
+    }
+
+    /**
+     * Encodes address to long, natural order of encoded values is a row-major order of addresses
+     */
+    private static long toLong(int row, int column) {
+        return ((long) row << 32) | (column & 0xFFFFFFFFL);
+    }
+
+    private static int getRowNum(long address) {
+        return (int) (address >>> 32);
+    }
+
+    private static int getColumnNum(long address) {
+        return (int) address;
+    }
+
+    private static class AddressList {
+        private long[] addresses = new long[1];
+        private int size = 0;
+
+        void add(long address) {
+            if (size == addresses.length) {
+                addresses = Arrays.copyOf(addresses, size * 2);
+            }
+            addresses[size++] = address;
+        }
+
+        long[] toSortedArray() {
+            long[] result = (size == addresses.length) ? addresses : Arrays.copyOf(addresses, size);
+            Arrays.sort(result);
+            return result;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class PrefixIndexEntry {
+        private final String value;
+        private final long address;
+    }
+
+    /**
+     * Normalized cell string values sorted in natural order, values starting with same prefix are neighbours
+     */
+    private static class PrefixIndex {
+        private final String[] values;
+        /**
+         * Bottom-up merge sort passes over cell addresses of values: level k consists of blocks of 2^k addresses,
+         * each block is sorted in address order. Any values range is covered by logarithmic number of blocks.
+         */
+        private final long[][] addressLevels;
+
+        PrefixIndex(List<PrefixIndexEntry> entries) {
+            int size = entries.size();
+            this.values = new String[size];
+            long[] addresses = new long[size];
+            for (int i = 0; i < size; i++) {
+                PrefixIndexEntry entry = entries.get(i);
+                values[i] = entry.value;
+                addresses[i] = entry.address;
+            }
+            List<long[]> levels = new ArrayList<>();
+            levels.add(addresses);
+            for (int blockSize = 1; blockSize < size; blockSize *= 2) {
+                long[] level = new long[size];
+                for (int from = 0; from < size; from += 2 * blockSize) {
+                    merge(addresses, from, min(from + blockSize, size), min(from + 2 * blockSize, size), level);
+                }
+                levels.add(level);
+                addresses = level;
+            }
+            this.addressLevels = levels.toArray(new long[0][]);
+        }
+
+        private static void merge(long[] source, int from, int middle, int to, long[] target) {
+            for (int i = from, j = middle, k = from; k < to; k++) {
+                target[k] = (j >= to || (i < middle && source[i] <= source[j])) ? source[i++] : source[j++];
+            }
+        }
+
+        TableCellAddress find(String lowercasePrefix, int startRow, int endRow, int startColumn, int endColumn) {
+            int from = getFirstNotLess(lowercasePrefix);
+            int to = getFirstNotStartingWith(lowercasePrefix, from);
+            long startAddress = toLong(max(0, startRow), 0);
+            long result = Long.MAX_VALUE;
+            while (from < to) {
+                int level = min(Integer.numberOfTrailingZeros(from), 31 - Integer.numberOfLeadingZeros(to - from));
+                int blockEnd = from + (1 << level);
+                result = find(addressLevels[level], from, blockEnd,
+                        startAddress, endRow, startColumn, endColumn, result);
+                from = blockEnd;
+            }
+            return (result == Long.MAX_VALUE) ?
+                    TableCellAddress.NOT_FOUND :
+                    TableCellAddress.of(getRowNum(result), getColumnNum(result));
+        }
+
+        /**
+         * Scans address sorted block from start address and stops at first hit
+         *
+         * @return found address if it is less than result, otherwise result
+         */
+        private static long find(long[] addresses, int from, int to, long startAddress,
+                                 int endRow, int startColumn, int endColumn, long result) {
+            int i = Arrays.binarySearch(addresses, from, to, startAddress);
+            for (i = (i < 0) ? (-i - 1) : i; i < to; i++) {
+                long address = addresses[i];
+                if (address >= result || getRowNum(address) >= endRow) {
+                    break;
+                }
+                int column = getColumnNum(address);
+                if (startColumn <= column && column < endColumn) {
+                    return address;
+                }
+            }
+            return result;
+        }
+
+        private int getFirstNotLess(String lowercasePrefix) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (values[middle].compareTo(lowercasePrefix) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * @param from index of first value not less than prefix
+         */
+        private int getFirstNotStartingWith(String lowercasePrefix, int from) {
+            int low = from;
+            int high = values.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (values[middle].startsWith(lowercasePrefix)) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.time.Instant;
+
+import static org.spacious_team.table_wrapper.api.CellDataAccessObjectHelper.toInstant;
+
+/**
+ * Reads {@link MappedReportPage} cell values. Cell is represented by it's decoded value.
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class MappedCellDataAccessObject implements CellDataAccessObject<Object, MappedReportPageRow> {
+
+    public static final MappedCellDataAccessObject INSTANCE = new MappedCellDataAccessObject(InstantParser.INSTANCE);
+    /**
+     * Parses string cell values
+     */
+    private final InstantParser instantParser;
+
+    @Override
+    public @Nullable Object getCell(MappedReportPageRow row, Integer cellIndex) {
+        return row.getCellValue(cellIndex);
+    }
+
+    @Override
+    public Object getValue(Object cell) {
+        return cell;
+    }
+
+    /**
+     * Converts date time cell values, string values are parsed by {@link InstantParser}.
+     */
+    @Override
+    public Instant getInstantValue(Object cell) {
+        return toInstant(cell, instantParser);
+    }
+}
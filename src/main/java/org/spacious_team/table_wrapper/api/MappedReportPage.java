@@ -0,0 +1,337 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+import static org.spacious_team.table_wrapper.api.ReportPageSnapshot.*;
+
+/**
+ * Report page, opened from snapshot file written by {@link ReportPageSnapshot}. File is memory-mapped,
+ * cells are decoded from mapped buffer on access, so page is opened without reading whole file
+ * (checksum verification is optional). Without checksum verification corrupted row index and dictionary entries
+ * are detected on access by {@link IllegalStateException}.
+ * <p>
+ * Register {@link MappedTableFactory} to create tables from mapped report page:
+ * <pre>
+ *     TableFactoryRegistry.add(new MappedTableFactory());
+ *     ReportPageSnapshot.write(excelSheet, path);
+ *     ...
+ *     ReportPage reportPage = MappedReportPage.open(path);
+ *     Table table = reportPage.create("Table name", TableHeader.class);
+ * </pre>
+ */
+@ToString(of = {"lastRowNum"})
+public class MappedReportPage extends AbstractReportPage<MappedReportPageRow> {
+
+    private final ByteBuffer buffer;
+    @Getter
+    private final int lastRowNum;
+    @Getter
+    private final MappedCellDataAccessObject cellDataAccessObject;
+    private final int cellsOffset;
+    private final int dictionaryIndexOffset;
+    private final int dictionaryDataOffset;
+    private final int cellCount;
+    private final int dictionarySize;
+    /**
+     * Decoded dictionary strings, allocated on first string access
+     */
+    private volatile @Nullable String @Nullable [] strings;
+
+    /**
+     * @throws IOException if buffer doesn't contain snapshot of supported version, header is corrupted
+     *                     or checksum doesn't match
+     */
+    protected MappedReportPage(ByteBuffer buffer,
+                               boolean verifyChecksum,
+                               MappedCellDataAccessObject cellDataAccessObject) throws IOException {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a report page snapshot");
+        } else if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported report page snapshot version " + buffer.getInt(4));
+        }
+        if (verifyChecksum && getChecksum(buffer) != buffer.getLong(CHECKSUM_OFFSET)) {
+            throw new IOException("Report page snapshot checksum mismatch");
+        }
+        int lastRowNum = buffer.getInt(8);
+        int cellCount = buffer.getInt(12);
+        int dictionarySize = buffer.getInt(16);
+        if (lastRowNum < -1 || cellCount < 0 || dictionarySize < 0) {
+            throw new IOException("Report page snapshot header is corrupted: lastRowNum=" + lastRowNum +
+                    ", cellCount=" + cellCount + ", dictionarySize=" + dictionarySize);
+        }
+        long cellsOffset = HEADER_SIZE + (lastRowNum + 1L) * ROW_INDEX_ENTRY_SIZE;
+        long dictionaryIndexOffset = cellsOffset + (long) cellCount * CELL_SIZE;
+        long dictionaryDataOffset = dictionaryIndexOffset + (long) dictionarySize * Integer.BYTES;
+        if (dictionaryDataOffset > buffer.limit()) {
+            throw new IOException("Report page snapshot is truncated");
+        }
+        this.buffer = buffer;
+        this.cellDataAccessObject = cellDataAccessObject;
+        this.lastRowNum = lastRowNum;
+        this.cellsOffset = (int) cellsOffset;
+        this.dictionaryIndexOffset = (int) dictionaryIndexOffset;
+        this.dictionaryDataOffset = (int) dictionaryDataOffset;
+        this.cellCount = cellCount;
+        this.dictionarySize = dictionarySize;
+    }
+
+    /**
+     * @return CRC32 of all buffer bytes, checksum field is treated as zeroed
+     */
+    private static long getChecksum(ByteBuffer buffer) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().limit(CHECKSUM_OFFSET));
+        crc.update(new byte[Long.BYTES]);
+        crc.update(buffer.duplicate().position(CHECKSUM_OFFSET + Long.BYTES));
+        return crc.getValue();
+    }
+
+    /**
+     * Opens snapshot without checksum verification, so whole file is not read.
+     *
+     * @throws IOException if file can't be read, is not a snapshot or it's header is corrupted
+     * @see #open(Path, boolean)
+     */
+    public static MappedReportPage open(Path path) throws IOException {
+        return open(path, false);
+    }
+
+    /**
+     * @param verifyChecksum if false, snapshot is opened without reading whole file
+     * @throws IOException if file can't be read, is not a snapshot or is corrupted
+     */
+    public static MappedReportPage open(Path path, boolean verifyChecksum) throws IOException {
+        return open(path, verifyChecksum, MappedCellDataAccessObject.INSTANCE);
+    }
+
+    /**
+     * @param verifyChecksum if false, snapshot is opened without reading whole file
+     * @throws IOException if file can't be read, is not a snapshot or is corrupted
+     */
+    public static MappedReportPage open(Path path,
+                                        boolean verifyChecksum,
+                                        MappedCellDataAccessObject cellDataAccessObject) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Report page snapshot is too large: " + path);
+            }
+            ByteBuffer buffer = channel.map(READ_ONLY, 0, size);
+            return new MappedReportPage(buffer, verifyChecksum, cellDataAccessObject);
+        }
+    }
+
+    @Override
+    public TableCellAddress find(Object value, int startRow, int endRow, int startColumn, int endColumn) {
+        return find(startRow, endRow, startColumn, endColumn, cellValue -> Objects.equals(value, cellValue));
+    }
+
+    @Override
+    public TableCellAddress find(int startRow, int endRow,
+                                 int startColumn, int endColumn,
+                                 Predicate<Object> cellValuePredicate) {
+        for (int i = max(0, startRow), n = min(endRow, lastRowNum + 1); i < n; i++) {
+            int firstCell = getFirstCellIndex(i);
+            for (int cell = firstCell, lastCell = firstCell + getCellCount(i); cell < lastCell; cell++) {
+                int column = getColumn(cell);
+                if (column >= endColumn) {
+                    break; // cells are sorted by column
+                } else if (column >= startColumn && cellValuePredicate.test(getValue(cell))) {
+                    return TableCellAddress.of(i, column);
+                }
+            }
+        }
+        return TableCellAddress.NOT_FOUND;
+    }
+
+    @Override
+    public @Nullable MappedReportPageRow getRow(int i) {
+        if (i < 0 || i > lastRowNum || getFirstCellIndex(i) == -1) {
+            return null;
+        }
+        int offset = getRowIndexOffset(i);
+        return new MappedReportPageRow(this, i, buffer.getInt(offset + 8), buffer.getInt(offset + 12));
+    }
+
+    /**
+     * Finds empty row without cell objects creation.
+     */
+    @Override
+    public int findEmptyRow(int startRow) {
+        for (int i = startRow; i <= lastRowNum; i++) {
+            if (i < 0 || isBlankRow(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isBlankRow(int row) {
+        int firstCell = getFirstCellIndex(row);
+        for (int cell = firstCell, lastCell = firstCell + getCellCount(row); cell < lastCell; cell++) {
+            if (getType(cell) != STRING || !getString(getPayload(cell)).isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int getRowIndexOffset(int row) {
+        return HEADER_SIZE + row * ROW_INDEX_ENTRY_SIZE;
+    }
+
+    /**
+     * @return index of first row's cell or -1 if row is absent
+     * @throws IllegalStateException if row index is corrupted
+     */
+    int getFirstCellIndex(int row) {
+        int firstCellIndex = buffer.getInt(getRowIndexOffset(row));
+        if (firstCellIndex < -1 || firstCellIndex > cellCount) {
+            throw new IllegalStateException("Report page snapshot row index is corrupted, row " + row);
+        }
+        return firstCellIndex;
+    }
+
+    /**
+     * @throws IllegalStateException if row index is corrupted
+     */
+    int getCellCount(int row) {
+        int rowCellCount = buffer.getInt(getRowIndexOffset(row) + 4);
+        if (rowCellCount < 0 || (long) getFirstCellIndex(row) + rowCellCount > cellCount) {
+            throw new IllegalStateException("Report page snapshot row index is corrupted, row " + row);
+        }
+        return rowCellCount;
+    }
+
+    int getColumn(int cell) {
+        return buffer.getInt(cellsOffset + cell * CELL_SIZE);
+    }
+
+    private byte getType(int cell) {
+        return buffer.get(cellsOffset + cell * CELL_SIZE + 4);
+    }
+
+    private long getPayload(int cell) {
+        return buffer.getLong(cellsOffset + cell * CELL_SIZE + 5);
+    }
+
+    /**
+     * @return index of row's cell with given column or -1 if cell is absent
+     */
+    int findCell(int row, int column) {
+        if (row < 0 || row > lastRowNum) {
+            return -1;
+        }
+        int low = getFirstCellIndex(row);
+        int high = low + getCellCount(row) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midColumn = getColumn(mid);
+            if (midColumn < column) {
+                low = mid + 1;
+            } else if (midColumn > column) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    Object getValue(int cell) {
+        long payload = getPayload(cell);
+        switch (getType(cell)) {
+            case INT:
+                return (int) payload;
+            case LONG:
+                return payload;
+            case DOUBLE:
+                return Double.longBitsToDouble(payload);
+            case BOOLEAN:
+                return payload != 0;
+            case BIG_DECIMAL:
+                return new BigDecimal(getString(payload));
+            case INSTANT:
+                return Instant.parse(getString(payload));
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.parse(getString(payload));
+            case LOCAL_DATE:
+                return LocalDate.parse(getString(payload));
+            default:
+                return getString(payload);
+        }
+    }
+
+    /**
+     * Decodes dictionary string on first access
+     *
+     * @throws IllegalStateException if dictionary is corrupted
+     */
+    private String getString(long code) {
+        if (code < 0 || code >= dictionarySize) {
+            throw new IllegalStateException("Report page snapshot dictionary code is corrupted: " + code);
+        }
+        int i = (int) code;
+        @Nullable String[] strings = getStrings();
+        @Nullable String string = strings[i];
+        if (string == null) {
+            int offset = buffer.getInt(dictionaryIndexOffset + i * Integer.BYTES);
+            int length = (offset < 0 || offset > buffer.limit() - dictionaryDataOffset - Integer.BYTES) ?
+                    -1 :
+                    buffer.getInt(dictionaryDataOffset + offset);
+            if (length < 0 || length > buffer.limit() - dictionaryDataOffset - offset - Integer.BYTES) {
+                throw new IllegalStateException("Report page snapshot dictionary is corrupted, code " + code);
+            }
+            byte[] bytes = new byte[length];
+            buffer.duplicate().position(dictionaryDataOffset + offset + Integer.BYTES).get(bytes);
+            string = new String(bytes, StandardCharsets.UTF_8);
+            strings[i] = string; // benign race, strings are immutable
+        }
+        return string;
+    }
+
+    private @Nullable String[] getStrings() {
+        @Nullable String @Nullable [] result = strings;
+        if (result == null) {
+            strings = result = new String[dictionarySize]; // benign race, cache may be allocated twice
+        }
+        return result;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Row of {@link MappedReportPage}
+ */
+@ToString(of = {"rowNum"})
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class MappedReportPageRow extends AbstractReportPageRow {
+
+    private final MappedReportPage reportPage;
+    @Getter
+    private final int rowNum;
+    @Getter
+    private final int firstCellNum;
+    @Getter
+    private final int lastCellNum;
+
+    @Override
+    public @Nullable MappedTableCell getCell(int i) {
+        int cell = reportPage.findCell(rowNum, i);
+        return (cell == -1) ? null : createCell(cell);
+    }
+
+    /**
+     * @return decoded cell value or null if cell is absent
+     */
+    @Nullable
+    Object getCellValue(int i) {
+        int cell = reportPage.findCell(rowNum, i);
+        return (cell == -1) ? null : reportPage.getValue(cell);
+    }
+
+    private MappedTableCell createCell(int cell) {
+        return new MappedTableCell(reportPage.getValue(cell), reportPage.getColumn(cell),
+                reportPage.getCellDataAccessObject());
+    }
+
+    @Override
+    public boolean rowContains(Object expected) {
+        int firstCell = reportPage.getFirstCellIndex(rowNum);
+        for (int cell = firstCell, lastCell = firstCell + reportPage.getCellCount(rowNum); cell < lastCell; cell++) {
+            if (expected.equals(reportPage.getValue(cell))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Iterates over existing cells
+     */
+    @Override
+    public Iterator<@Nullable TableCell> iterator() {
+        return new Iterator<>() {
+            private final int lastCell = reportPage.getFirstCellIndex(rowNum) + reportPage.getCellCount(rowNum);
+            private int cell = reportPage.getFirstCellIndex(rowNum);
+
+            @Override
+            public boolean hasNext() {
+                return cell < lastCell;
+            }
+
+            @Override
+            public TableCell next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return createCell(cell++);
+            }
+        };
+    }
+}
@@ -20,8 +20,11 @@ package org.spacious_team.table_wrapper.api;
 
 import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.SneakyThrows;
+import lombok.ToString;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.math.BigDecimal;
@@ -38,14 +41,25 @@ import static java.util.Objects.requireNonNull;
  * will continue to work.
  */
 @Data
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 class MutableTableRow<T extends ReportPageRow> implements TableRow {
 
     private final Table table;
     private final CellDataAccessObject<?, T> dao;
+    /**
+     * Column indices of table or null if column indices are read from table header description
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final @Nullable ColumnIndices columnIndices;
 
     @Setter(AccessLevel.PACKAGE)
     private volatile T row;
 
+    MutableTableRow(Table table, CellDataAccessObject<?, T> dao) {
+        this(table, dao, null);
+    }
+
     @Override
     public @Nullable TableCell getCell(TableHeaderColumn column) {
         return getCell(getCellIndex(column));
@@ -122,6 +136,13 @@ class MutableTableRow<T extends ReportPageRow> implements TableRow {
     }
 
     private int getCellIndex(TableHeaderColumn column) {
+        if (columnIndices != null) {
+            int cellIndex = columnIndices.getColumnIndex(column);
+            if (cellIndex == ColumnIndices.NOT_FOUND) {
+                throw new NullPointerException("Cell is not found");
+            }
+            return cellIndex;
+        }
         @Nullable Integer cellIndex = table.getHeaderDescription()
                 .get(column.getColumn());
         @SuppressWarnings("nullness")
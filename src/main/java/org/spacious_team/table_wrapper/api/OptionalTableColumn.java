@@ -19,28 +19,38 @@
 package org.spacious_team.table_wrapper.api;
 
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import static lombok.AccessLevel.PACKAGE;
 import static lombok.AccessLevel.PRIVATE;
 
-@ToString(of = "column")
-@EqualsAndHashCode(of = "column")
+@ToString
+@EqualsAndHashCode
 @RequiredArgsConstructor(access = PRIVATE)
 public class OptionalTableColumn implements TableColumn {
+    @Getter(PACKAGE)
     private final TableColumn column;
-    private final AnyOfTableColumn anyOfTableColumn;
 
     public static OptionalTableColumn of(TableColumn column) {
-        return new OptionalTableColumn(column, AnyOfTableColumn.of(column, TableColumn.NOCOLUMN));
+        return new OptionalTableColumn(column);
     }
 
+    /**
+     * @throws OptionalTableColumnNotFound if column is not found
+     */
     @Override
     public int getColumnIndex(int firstColumnForSearch, ReportPageRow... headerRows) {
-        try {
-            return anyOfTableColumn.getColumnIndex(firstColumnForSearch, headerRows);
-        } catch (Exception e) {
-            throw new OptionalTableColumnNotFound(e);
+        int columnIndex = findColumnIndex(firstColumnForSearch, headerRows);
+        if (columnIndex == NOT_FOUND) {
+            throw new OptionalTableColumnNotFound("Optional header column is not found: " + column);
         }
+        return columnIndex;
+    }
+
+    @Override
+    public int findColumnIndex(int firstColumnForSearch, ReportPageRow... headerRows) {
+        return column.findColumnIndex(firstColumnForSearch, headerRows);
     }
 }
@@ -20,6 +20,10 @@ package org.spacious_team.table_wrapper.api;
 
 public class OptionalTableColumnNotFound extends TableColumnNotFound {
 
+    public OptionalTableColumnNotFound(String message) {
+        super(message);
+    }
+
     public OptionalTableColumnNotFound(Throwable t) {
         super(t);
     }
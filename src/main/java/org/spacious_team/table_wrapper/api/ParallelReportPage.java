@@ -0,0 +1,133 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Report page decorator, which searches cell by predicate in parallel if searching rows count exceeds threshold.
+ * Rows are split into chunks, which are searched concurrently in {@link ForkJoinPool}. Result is the same
+ * as sequential search result: the earliest matching address in row-major order. Chunks following a found
+ * address are cancelled, running chunks stop at next row.
+ * <p>
+ * Usage example:
+ * <pre>
+ *     ReportPage reportPage = ParallelReportPage.of(excelSheet, ForkJoinPool.commonPool());
+ *     Table table = reportPage.create("Table name", TableHeader.class);
+ * </pre>
+ *
+ * @implSpec Wrapped report page {@link #getRow(int)} and {@link #find(int, int, int, int, Predicate)}
+ * methods should be thread-safe. Search by exact value is not parallelized.
+ */
+public class ParallelReportPage<R extends ReportPageRow> extends AbstractForwardingReportPage<R> {
+
+    public static final int DEFAULT_ROW_THRESHOLD = 10_000;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+    /**
+     * Search is parallelized if searching rows count is equal or greater than this value
+     */
+    @Getter
+    private final int rowThreshold;
+
+    protected ParallelReportPage(AbstractReportPage<R> reportPage, ForkJoinPool pool, int rowThreshold) {
+        super(reportPage);
+        if (rowThreshold < 1) {
+            throw new IllegalArgumentException("Row threshold should be positive: " + rowThreshold);
+        }
+        this.pool = pool;
+        this.rowThreshold = rowThreshold;
+    }
+
+    public static <R extends ReportPageRow> ParallelReportPage<R> of(AbstractReportPage<R> reportPage,
+                                                                     ForkJoinPool pool) {
+        return of(reportPage, pool, DEFAULT_ROW_THRESHOLD);
+    }
+
+    /**
+     * @param rowThreshold search is parallelized if searching rows count is equal or greater than this value
+     */
+    public static <R extends ReportPageRow> ParallelReportPage<R> of(AbstractReportPage<R> reportPage,
+                                                                     ForkJoinPool pool,
+                                                                     int rowThreshold) {
+        return new ParallelReportPage<>(reportPage, pool, rowThreshold);
+    }
+
+    @Override
+    public TableCellAddress find(int startRow, int endRow,
+                                 int startColumn, int endColumn,
+                                 Predicate<Object> cellValuePredicate) {
+        int firstRow = max(0, startRow);
+        int lastRow = min(endRow - 1, getLastRowNum());
+        int rowCount = lastRow - firstRow + 1;
+        if (rowCount < rowThreshold) {
+            return super.find(startRow, endRow, startColumn, endColumn, cellValuePredicate);
+        }
+        int chunkCount = min(rowCount, pool.getParallelism() * CHUNKS_PER_THREAD);
+        int chunkSize = (rowCount + chunkCount - 1) / chunkCount;
+        AtomicInteger foundRow = new AtomicInteger(Integer.MAX_VALUE);
+        List<ForkJoinTask<TableCellAddress>> tasks = new ArrayList<>(chunkCount);
+        for (int row = firstRow; row <= lastRow; row += chunkSize) {
+            int chunkStart = row;
+            int chunkEnd = min(row + chunkSize, lastRow + 1);
+            tasks.add(pool.submit(() ->
+                    findInChunk(chunkStart, chunkEnd, startColumn, endColumn, cellValuePredicate, foundRow)));
+        }
+        try {
+            for (ForkJoinTask<TableCellAddress> task : tasks) {
+                TableCellAddress address = task.join();
+                if (!address.equals(TableCellAddress.NOT_FOUND)) {
+                    return address; // chunks are joined in row order, so this is the earliest address
+                }
+            }
+            return TableCellAddress.NOT_FOUND;
+        } finally {
+            foundRow.set(-1); // stops running chunks
+            tasks.forEach(task -> task.cancel(false));
+        }
+    }
+
+    private TableCellAddress findInChunk(int chunkStart, int chunkEnd,
+                                         int startColumn, int endColumn,
+                                         Predicate<Object> cellValuePredicate,
+                                         AtomicInteger foundRow) {
+        for (int row = chunkStart; row < chunkEnd; row++) {
+            if (row > foundRow.get()) {
+                break; // earlier chunk already has result
+            }
+            TableCellAddress address = super.find(row, row + 1, startColumn, endColumn, cellValuePredicate);
+            if (!address.equals(TableCellAddress.NOT_FOUND)) {
+                foundRow.accumulateAndGet(address.getRow(), Math::min);
+                return address;
+            }
+        }
+        return TableCellAddress.NOT_FOUND;
+    }
+}
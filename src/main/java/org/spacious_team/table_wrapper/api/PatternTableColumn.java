@@ -19,6 +19,7 @@
 package org.spacious_team.table_wrapper.api;
 
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -31,6 +32,7 @@ import java.util.stream.Collectors;
 
 import static java.util.regex.Pattern.CASE_INSENSITIVE;
 import static java.util.regex.Pattern.UNICODE_CASE;
+import static lombok.AccessLevel.PACKAGE;
 import static lombok.AccessLevel.PRIVATE;
 
 /**
@@ -40,7 +42,9 @@ import static lombok.AccessLevel.PRIVATE;
 @EqualsAndHashCode(of = "words")
 @RequiredArgsConstructor(access = PRIVATE)
 public class PatternTableColumn implements TableColumn {
+    @Getter(PACKAGE)
     private final Pattern[] patterns;
+    @Getter(PACKAGE)
     private final Set<String> words;
 
     /**
@@ -66,6 +70,15 @@ public class PatternTableColumn implements TableColumn {
     }
 
     public int getColumnIndex(int firstColumnForSearch, ReportPageRow... headerRows) {
+        int columnIndex = findColumnIndex(firstColumnForSearch, headerRows);
+        if (columnIndex == NOT_FOUND) {
+            throw new TableColumnNotFound("Header including '" + String.join(", ", words) + "' is not found");
+        }
+        return columnIndex;
+    }
+
+    @Override
+    public int findColumnIndex(int firstColumnForSearch, ReportPageRow... headerRows) {
         for (ReportPageRow header : headerRows) {
             for (@Nullable TableCell cell : header) {
                 @Nullable Object value;
@@ -78,7 +91,7 @@ public class PatternTableColumn implements TableColumn {
                 }
             }
         }
-        throw new TableColumnNotFound("Header including '" + String.join(", ", words) + "' is not found");
+        return NOT_FOUND;
     }
 
     private boolean matches(CharSequence cellText) {
@@ -20,18 +20,29 @@ package org.spacious_team.table_wrapper.api;
 
 
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import static lombok.AccessLevel.PACKAGE;
+
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(staticName = "of")
 public class RelativePositionTableColumn implements TableColumn {
+    @Getter(PACKAGE)
     private final TableColumn column;
+    @Getter(PACKAGE)
     private final int positionOffset;
 
     @Override
     public int getColumnIndex(int firstColumnForSearch, ReportPageRow... headerRows) {
         return column.getColumnIndex(firstColumnForSearch, headerRows) + positionOffset;
     }
+
+    @Override
+    public int findColumnIndex(int firstColumnForSearch, ReportPageRow... headerRows) {
+        int columnIndex = column.findColumnIndex(firstColumnForSearch, headerRows);
+        return (columnIndex == NOT_FOUND) ? NOT_FOUND : columnIndex + positionOffset;
+    }
 }
@@ -20,6 +20,9 @@ package org.spacious_team.table_wrapper.api;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import static java.util.Objects.requireNonNull;
@@ -115,6 +118,36 @@ public interface ReportPage {
                           int startColumn, int endColumn,
                           Predicate<Object> cellValuePredicate);
 
+    /**
+     * Finds first cell for each predicate by one pass over report page rows in row-major order.
+     *
+     * @param cellValuePredicates predicates for testing cell value
+     * @return cell addresses in predicates order, {@link TableCellAddress#NOT_FOUND} for predicates
+     * which cells are not found
+     */
+    default List<TableCellAddress> findFirstMatches(List<Predicate<Object>> cellValuePredicates) {
+        return findFirstMatches(cellValuePredicates, 0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Finds first cell for each predicate by one pass over report page rows in row-major order.
+     *
+     * @param cellValuePredicates predicates for testing cell value
+     * @param startRow            search rows start from this
+     * @param endRow              search rows excluding this, can handle values greater than real rows count
+     * @param startColumn         search columns start from this
+     * @param endColumn           search columns excluding this, can handle values greater than real columns count
+     * @return cell addresses in predicates order, {@link TableCellAddress#NOT_FOUND} for predicates
+     * which cells are not found
+     */
+    default List<TableCellAddress> findFirstMatches(List<Predicate<Object>> cellValuePredicates,
+                                                    int startRow, int endRow,
+                                                    int startColumn, int endColumn) {
+        int[] startRows = new int[cellValuePredicates.size()];
+        Arrays.fill(startRows, startRow);
+        return ReportPageHelper.findFirstMatches(this, cellValuePredicates, startRows, endRow, startColumn, endColumn);
+    }
+
     /**
      * Finds cell address staring with value (ignore case, trims leading spaces).
      *
@@ -241,6 +274,39 @@ public interface ReportPage {
                 lastRow.getLastCellNum());
     }
 
+    /**
+     * Returns table ranges. First and last rows of all tables will be found by predicates by two passes
+     * over report page rows: the first pass finds first rows of all tables, the second one finds last rows.
+     *
+     * @param firstRowFinders table first row finders
+     * @param lastRowFinders  table last row finders, list size and order should be the same as for first row finders
+     * @return table ranges in finders order, {@link TableCellRange#EMPTY_RANGE} for not found tables
+     * @see #getTableCellRange(Predicate, int, Predicate)
+     */
+    default List<TableCellRange> getTableCellRanges(List<Predicate<Object>> firstRowFinders,
+                                                    int headersRowCount,
+                                                    List<Predicate<Object>> lastRowFinders) {
+        int count = firstRowFinders.size();
+        if (count != lastRowFinders.size()) {
+            throw new IllegalArgumentException("First and last row finders count mismatch");
+        }
+        List<TableCellAddress> startAddresses = findFirstMatches(firstRowFinders);
+        int[] lastRowSearchStartRows = new int[count];
+        for (int i = 0; i < count; i++) {
+            TableCellAddress startAddress = startAddresses.get(i);
+            lastRowSearchStartRows[i] = startAddress.equals(TableCellAddress.NOT_FOUND) ?
+                    Integer.MAX_VALUE : // skip last row search
+                    startAddress.getRow() + headersRowCount + 1;
+        }
+        List<TableCellAddress> endAddresses = ReportPageHelper.findFirstMatches(
+                this, lastRowFinders, lastRowSearchStartRows, Integer.MAX_VALUE, 0, Integer.MAX_VALUE);
+        List<TableCellRange> ranges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ranges.add(ReportPageHelper.getTableCellRange(this, startAddresses.get(i), endAddresses.get(i)));
+        }
+        return ranges;
+    }
+
     /**
      * Returns table range. First row starts with 'firstRowPrefix' prefix in one of the cells,
      * range ends with empty row or last row of report page.
@@ -265,28 +331,8 @@ public interface ReportPage {
         if (startAddress.equals(TableCellAddress.NOT_FOUND)) {
             return TableCellRange.EMPTY_RANGE;
         }
-        @SuppressWarnings({"nullness", "ConstantConditions"})
-        ReportPageRow firstRow = requireNonNull(getRow(startAddress.getRow()), "Row is not found");
         int emptyRowNum = findEmptyRow(startAddress.getRow() + headersRowCount + 1);
-        if (emptyRowNum == -1) {
-            emptyRowNum = getLastRowNum(); // empty row is not found, use last row
-        } else if (emptyRowNum <= getLastRowNum()) {
-            emptyRowNum--; // exclude empty row
-        }
-        ReportPageRow lastRow;
-        if (emptyRowNum <= startAddress.getRow()) {
-            emptyRowNum = startAddress.getRow();
-            lastRow = firstRow;
-        } else {
-            @SuppressWarnings({"nullness", "ConstantConditions"})
-            ReportPageRow row = requireNonNull(getRow(emptyRowNum), "Row is not found");
-            lastRow = row;
-        }
-        return TableCellRange.of(
-                startAddress.getRow(),
-                emptyRowNum,
-                firstRow.getFirstCellNum(),
-                lastRow.getLastCellNum());
+        return ReportPageHelper.getTableCellRange(this, startAddress, emptyRowNum);
     }
 
     /**
@@ -382,6 +428,15 @@ public interface ReportPage {
                 .create(this, tableNameFinder, headerDescription, headersRowCount);
     }
 
+    /**
+     * @return tables in specs order
+     * @see TableFactory#createAll(ReportPage, List)
+     */
+    default List<Table> createAll(List<? extends TableSpec<?>> tableSpecs) {
+        return TableFactoryRegistry.get(this)
+                .createAll(this, tableSpecs);
+    }
+
     default <T extends Enum<T> & TableHeaderColumn>
     Table createNameless(String firstLineText,
                          String lastRowString,
@@ -19,11 +19,22 @@
 package org.spacious_team.table_wrapper.api;
 
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+import static lombok.AccessLevel.PACKAGE;
 import static lombok.AccessLevel.PRIVATE;
 
 @RequiredArgsConstructor(access = PRIVATE)
@@ -33,19 +44,211 @@ final class ReportPageHelper {
         return new StringIgnoreCasePrefixPredicate(prefix);
     }
 
+    /**
+     * Same check as {@link ReportPage#findEmptyRow(int)} default implementation does.
+     *
+     * @return true if row is absent or all row's cells are blank (absent, with null or empty string value)
+     */
+    static boolean isEmptyRow(@Nullable ReportPageRow row) {
+        if (row == null || row.getLastCellNum() == -1) {
+            return true;
+        }
+        for (@Nullable TableCell cell : row) {
+            if (cell != null) {
+                @Nullable Object value = cell.getValue();
+                if (value != null && !(value instanceof String && ((String) value).isEmpty())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if any row's cell value satisfies predicate
+     */
+    static boolean rowContains(ReportPageRow row, Predicate<Object> cellValuePredicate) {
+        for (@Nullable TableCell cell : row) {
+            if (cell != null) {
+                @Nullable Object value = cell.getValue();
+                if (value != null && cellValuePredicate.test(value)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Trims and case folds string, normalized values are equal if strings are equal ignoring case and surrounding
+     * spaces. Case folding is locale independent and the same as {@link String#regionMatches(boolean, int, String, int, int)}
+     * does, so {@link StringIgnoreCasePrefixPredicate} and normalized values comparison give the same result.
+     */
+    static String normalizeCellStringValue(String value) {
+        String trimmedValue = value.trim();
+        int length = trimmedValue.length();
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(trimmedValue.charAt(i)));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Finds first cell for each predicate by one pass over report page rows in row-major order.
+     * Cells without value are not tested.
+     *
+     * @param startRows predicate is tested for rows starting from this, value for each predicate
+     * @return cell addresses in predicates order or {@link TableCellAddress#NOT_FOUND}
+     */
+    static List<TableCellAddress> findFirstMatches(ReportPage reportPage,
+                                                   List<Predicate<Object>> cellValuePredicates,
+                                                   int[] startRows,
+                                                   int endRow,
+                                                   int startColumn,
+                                                   int endColumn) {
+        int count = cellValuePredicates.size();
+        TableCellAddress[] addresses = new TableCellAddress[count];
+        Arrays.fill(addresses, TableCellAddress.NOT_FOUND);
+        int lastRow = min(endRow - 1, reportPage.getLastRowNum());
+        int startRow = Integer.MAX_VALUE;
+        int notFoundCount = 0;
+        for (int rowNum : startRows) {
+            if (rowNum <= lastRow) {
+                startRow = min(startRow, rowNum);
+                notFoundCount++;
+            }
+        }
+        for (int rowNum = max(0, startRow); rowNum <= lastRow && notFoundCount > 0; rowNum++) {
+            @Nullable ReportPageRow row = reportPage.getRow(rowNum);
+            if (row == null) {
+                continue;
+            }
+            for (@Nullable TableCell cell : row) {
+                int column;
+                @Nullable Object value;
+                if (cell == null ||
+                        (column = cell.getColumnIndex()) < startColumn || column >= endColumn ||
+                        (value = cell.getValue()) == null) {
+                    continue;
+                }
+                for (int i = 0; i < count; i++) {
+                    if (startRows[i] <= rowNum &&
+                            addresses[i] == TableCellAddress.NOT_FOUND &&
+                            cellValuePredicates.get(i).test(value)) {
+                        addresses[i] = TableCellAddress.of(rowNum, column);
+                        notFoundCount--;
+                    }
+                }
+            }
+        }
+        return Arrays.asList(addresses);
+    }
+
+    /**
+     * @return table range from first to last row or {@link TableCellRange#EMPTY_RANGE} if any address is not found
+     */
+    static TableCellRange getTableCellRange(ReportPage reportPage,
+                                            TableCellAddress startAddress,
+                                            TableCellAddress endAddress) {
+        if (startAddress.equals(TableCellAddress.NOT_FOUND) || endAddress.equals(TableCellAddress.NOT_FOUND)) {
+            return TableCellRange.EMPTY_RANGE;
+        }
+        @SuppressWarnings({"nullness", "ConstantConditions"})
+        ReportPageRow firstRow = requireNonNull(reportPage.getRow(startAddress.getRow()), "Row is not found");
+        @SuppressWarnings({"nullness", "ConstantConditions"})
+        ReportPageRow lastRow = requireNonNull(reportPage.getRow(endAddress.getRow()), "Row is not found");
+        return TableCellRange.of(
+                startAddress.getRow(),
+                endAddress.getRow(),
+                firstRow.getFirstCellNum(),
+                lastRow.getLastCellNum());
+    }
+
+    /**
+     * Finds empty rows for many start rows. Empty row found from start row is also the first empty row
+     * from any next start row up to found empty row, so {@link ReportPage#findEmptyRow(int)} is called
+     * once for overlapping search areas.
+     *
+     * @param startRows start rows, {@link Integer#MAX_VALUE} to skip search
+     * @return empty row numbers in start rows order, -1 if empty row is not found or search is skipped
+     */
+    static int[] findEmptyRows(ReportPage reportPage, int[] startRows) {
+        int[] emptyRows = new int[startRows.length];
+        Arrays.fill(emptyRows, -1);
+        Integer[] order = IntStream.range(0, startRows.length)
+                .boxed()
+                .sorted(Comparator.comparingInt(i -> startRows[i]))
+                .toArray(Integer[]::new);
+        int previousEmptyRow = -1;
+        boolean isSearched = false;
+        for (int i : order) {
+            int startRow = startRows[i];
+            if (startRow == Integer.MAX_VALUE) {
+                break;
+            } else if (!isSearched || (previousEmptyRow != -1 && startRow > previousEmptyRow)) {
+                previousEmptyRow = reportPage.findEmptyRow(startRow);
+                isSearched = true;
+            }
+            emptyRows[i] = previousEmptyRow;
+        }
+        return emptyRows;
+    }
+
+    /**
+     * @param emptyRowNum empty row number, found by {@link ReportPage#findEmptyRow(int)}, or -1
+     * @return table range from first row to row preceding empty row or to last report page row
+     */
+    static TableCellRange getTableCellRange(ReportPage reportPage, TableCellAddress startAddress, int emptyRowNum) {
+        @SuppressWarnings({"nullness", "ConstantConditions"})
+        ReportPageRow firstRow = requireNonNull(reportPage.getRow(startAddress.getRow()), "Row is not found");
+        if (emptyRowNum == -1) {
+            emptyRowNum = reportPage.getLastRowNum(); // empty row is not found, use last row
+        } else if (emptyRowNum <= reportPage.getLastRowNum()) {
+            emptyRowNum--; // exclude empty row
+        }
+        ReportPageRow lastRow;
+        if (emptyRowNum <= startAddress.getRow()) {
+            emptyRowNum = startAddress.getRow();
+            lastRow = firstRow;
+        } else {
+            @SuppressWarnings({"nullness", "ConstantConditions"})
+            ReportPageRow row = requireNonNull(reportPage.getRow(emptyRowNum), "Row is not found");
+            lastRow = row;
+        }
+        return TableCellRange.of(
+                startAddress.getRow(),
+                emptyRowNum,
+                firstRow.getFirstCellNum(),
+                lastRow.getLastCellNum());
+    }
+
     @ToString
     @EqualsAndHashCode
     static final class StringIgnoreCasePrefixPredicate implements Predicate<Object> {
+        @Getter(PACKAGE)
         private final String lowercasePrefix;
 
         private StringIgnoreCasePrefixPredicate(String prefix) {
-            this.lowercasePrefix = prefix.trim().toLowerCase();
+            this.lowercasePrefix = normalizeCellStringValue(prefix);
         }
 
+        /**
+         * Tests cell value without memory allocation: leading spaces are skipped in place
+         * and prefix is compared ignoring case.
+         */
         @Override
         public boolean test(Object cell) {
-            return (cell instanceof String) &&
-                    ((String) cell).trim().toLowerCase().startsWith(lowercasePrefix);
+            if (!(cell instanceof String)) {
+                return false;
+            }
+            String value = (String) cell;
+            int length = value.length();
+            int offset = 0;
+            while (offset < length && value.charAt(offset) <= ' ') {
+                offset++; // same as String.trim()
+            }
+            return value.regionMatches(true, offset, lowercasePrefix, 0, lowercasePrefix.length());
         }
     }
 }
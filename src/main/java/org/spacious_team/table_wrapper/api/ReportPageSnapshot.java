@@ -0,0 +1,240 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.NoArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Writes {@link ReportPage} binary snapshot, which is opened by {@link MappedReportPage}.
+ * <p>
+ * Snapshot format (big-endian):
+ * <pre>
+ * header:           int magic, int version, int lastRowNum, int cellCount, int dictionarySize,
+ *                   long CRC32 checksum of all bytes (checksum field is zeroed), int reserved
+ * row index:        (lastRowNum + 1) entries of int firstCellIndex (-1 for absent row), int cellCount,
+ *                   int firstCellNum, int lastCellNum
+ * cells:            cellCount entries of int column, byte type, long payload; row cells are sorted by column
+ * dictionary index: dictionarySize entries of int offset relative to dictionary data
+ * dictionary data:  dictionarySize entries of int byte length, UTF-8 bytes
+ * </pre>
+ * Payload is integer value for {@link Integer}, {@link Long} and {@link Boolean} cell value, double value bits
+ * for {@link Double} cell value and dictionary code for {@link String}, {@link BigDecimal}, {@link Instant},
+ * {@link LocalDateTime} and {@link LocalDate} cell values.
+ *
+ * @implSpec Cells with null value are not written. Other cell value types are written as strings.
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class ReportPageSnapshot {
+
+    static final int MAGIC = 0x54575053; // "TWPS"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int CHECKSUM_OFFSET = 20;
+    static final int ROW_INDEX_ENTRY_SIZE = 16;
+    static final int CELL_SIZE = 13;
+
+    static final byte INT = 1;
+    static final byte LONG = 2;
+    static final byte DOUBLE = 3;
+    static final byte BOOLEAN = 4;
+    static final byte STRING = 5;
+    static final byte BIG_DECIMAL = 6;
+    static final byte INSTANT = 7;
+    static final byte LOCAL_DATE_TIME = 8;
+    static final byte LOCAL_DATE = 9;
+
+    /**
+     * Writes report page snapshot to file, existing file is overwritten. Snapshot is written to temporary file
+     * in the same directory, which is atomically moved to target path, so report pages mapped over existing file
+     * are not affected.
+     */
+    public static void write(ReportPage reportPage, Path path) throws IOException {
+        int lastRowNum = reportPage.getLastRowNum();
+        int rowCount = Math.max(0, lastRowNum + 1);
+        ByteBuffer rowIndex = ByteBuffer.allocate(rowCount * ROW_INDEX_ENTRY_SIZE);
+        CellWriter cells = new CellWriter();
+        for (int i = 0; i < rowCount; i++) {
+            @Nullable ReportPageRow row = reportPage.getRow(i);
+            if (row == null) {
+                rowIndex.putInt(-1).putInt(0).putInt(-1).putInt(-1);
+            } else {
+                int firstCellIndex = cells.getCellCount();
+                int cellCount = cells.writeRow(row);
+                rowIndex.putInt(firstCellIndex).putInt(cellCount).putInt(row.getFirstCellNum()).putInt(row.getLastCellNum());
+            }
+        }
+        ByteBuffer[] body = {rowIndex.flip(), cells.getCells(), cells.getDictionaryIndex(), cells.getDictionaryData()};
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(lastRowNum)
+                .putInt(cells.getCellCount())
+                .putInt(cells.getDictionarySize())
+                .putLong(0) // checksum
+                .putInt(0)
+                .flip();
+        CRC32 crc = new CRC32();
+        crc.update(header.duplicate());
+        for (ByteBuffer buffer : body) {
+            crc.update(buffer.duplicate());
+        }
+        header.putLong(CHECKSUM_OFFSET, crc.getValue());
+        Path absolutePath = path.toAbsolutePath();
+        @SuppressWarnings({"nullness", "ConstantConditions"})
+        Path directory = requireNonNull(absolutePath.getParent(), "Snapshot path is a root directory");
+        Path tempFile = Files.createTempFile(directory, absolutePath.getFileName() + ".", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, WRITE)) {
+                writeFully(channel, header);
+                for (ByteBuffer buffer : body) {
+                    writeFully(channel, buffer);
+                }
+            }
+            Files.move(tempFile, path, ATOMIC_MOVE, REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static class CellWriter {
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private final List<byte[]> dictionaryValues = new ArrayList<>();
+        private final List<TableCell> rowCells = new ArrayList<>();
+        private int dictionaryDataSize = 0;
+        private int cellCount = 0;
+        private ByteBuffer cells = ByteBuffer.allocate(1024 * CELL_SIZE);
+
+        int getCellCount() {
+            return cellCount;
+        }
+
+        int getDictionarySize() {
+            return dictionaryValues.size();
+        }
+
+        /**
+         * @return number of written cells
+         */
+        int writeRow(ReportPageRow row) {
+            rowCells.clear();
+            for (@Nullable TableCell cell : row) {
+                if (cell != null && cell.getValue() != null) {
+                    rowCells.add(cell);
+                }
+            }
+            rowCells.sort((c1, c2) -> Integer.compare(c1.getColumnIndex(), c2.getColumnIndex()));
+            for (TableCell cell : rowCells) {
+                @SuppressWarnings({"nullness", "ConstantConditions"})
+                Object value = cell.getValue();
+                writeCell(cell.getColumnIndex(), value);
+            }
+            return rowCells.size();
+        }
+
+        private void writeCell(int column, Object value) {
+            if (cells.remaining() < CELL_SIZE) {
+                cells = ByteBuffer.allocate(cells.capacity() * 2).put(cells.flip());
+            }
+            cells.putInt(column);
+            if (value instanceof Integer) {
+                cells.put(INT).putLong((Integer) value);
+            } else if (value instanceof Long) {
+                cells.put(LONG).putLong((Long) value);
+            } else if (value instanceof Double) {
+                cells.put(DOUBLE).putLong(Double.doubleToRawLongBits((Double) value));
+            } else if (value instanceof Boolean) {
+                cells.put(BOOLEAN).putLong(((Boolean) value) ? 1 : 0);
+            } else if (value instanceof BigDecimal) {
+                cells.put(BIG_DECIMAL).putLong(getCode(value.toString()));
+            } else if (value instanceof Instant) {
+                cells.put(INSTANT).putLong(getCode(value.toString()));
+            } else if (value instanceof LocalDateTime) {
+                cells.put(LOCAL_DATE_TIME).putLong(getCode(value.toString()));
+            } else if (value instanceof LocalDate) {
+                cells.put(LOCAL_DATE).putLong(getCode(value.toString()));
+            } else {
+                cells.put(STRING).putLong(getCode(value.toString()));
+            }
+            cellCount++;
+        }
+
+        private int getCode(String value) {
+            @Nullable Integer code = dictionary.get(value);
+            if (code == null) {
+                code = dictionaryValues.size();
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                dictionaryValues.add(bytes);
+                dictionaryDataSize += Integer.BYTES + bytes.length;
+                dictionary.put(value, code);
+            }
+            return code;
+        }
+
+        ByteBuffer getCells() {
+            return cells.duplicate().flip();
+        }
+
+        ByteBuffer getDictionaryIndex() {
+            ByteBuffer index = ByteBuffer.allocate(dictionaryValues.size() * Integer.BYTES);
+            int offset = 0;
+            for (byte[] bytes : dictionaryValues) {
+                index.putInt(offset);
+                offset += Integer.BYTES + bytes.length;
+            }
+            return index.flip();
+        }
+
+        ByteBuffer getDictionaryData() {
+            ByteBuffer data = ByteBuffer.allocate(dictionaryDataSize);
+            for (byte[] bytes : dictionaryValues) {
+                data.putInt(bytes.length).put(bytes);
+            }
+            return data.flip();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Per-page summary of row blankness, computed by one pass over all page cells. Cell is blank if
+ * it is absent, has null value or empty string value. Summary is immutable and may be shared by all tables
+ * of the page.
+ *
+ * @implNote Summary is not updated if report page is modified after creation.
+ */
+public final class RowSummary {
+
+    @Getter
+    private final int lastRowNum;
+    private final BitSet emptyRows;
+    private final int[] firstNonBlankCells;
+    private final int[] lastNonBlankCells;
+
+    private RowSummary(ReportPage reportPage) {
+        this.lastRowNum = reportPage.getLastRowNum();
+        int rowCount = Math.max(0, lastRowNum + 1);
+        this.emptyRows = new BitSet(rowCount);
+        this.firstNonBlankCells = new int[rowCount];
+        this.lastNonBlankCells = new int[rowCount];
+        Arrays.fill(firstNonBlankCells, -1);
+        Arrays.fill(lastNonBlankCells, -1);
+        for (int i = 0; i < rowCount; i++) {
+            @Nullable ReportPageRow row = reportPage.getRow(i);
+            if (row != null && row.getLastCellNum() != -1) {
+                for (@Nullable TableCell cell : row) {
+                    if (cell != null && !isBlank(cell.getValue())) {
+                        int column = cell.getColumnIndex();
+                        if (firstNonBlankCells[i] == -1 || column < firstNonBlankCells[i]) {
+                            firstNonBlankCells[i] = column;
+                        }
+                        lastNonBlankCells[i] = Math.max(lastNonBlankCells[i], column);
+                    }
+                }
+            }
+            if (firstNonBlankCells[i] == -1) {
+                emptyRows.set(i);
+            }
+        }
+    }
+
+    public static RowSummary of(ReportPage reportPage) {
+        return new RowSummary(reportPage);
+    }
+
+    private static boolean isBlank(@Nullable Object value) {
+        return value == null || (value instanceof String) && ((String) value).isEmpty();
+    }
+
+    /**
+     * @return true if row is absent or all row's cells are blank
+     */
+    public boolean isEmpty(int row) {
+        return row < 0 || row > lastRowNum || emptyRows.get(row);
+    }
+
+    /**
+     * @return zero-based index of first non-blank cell of row or -1 if row is empty
+     */
+    public int getFirstNonBlankCellNum(int row) {
+        return (row < 0 || row > lastRowNum) ? -1 : firstNonBlankCells[row];
+    }
+
+    /**
+     * @return zero-based index of last non-blank cell of row or -1 if row is empty
+     */
+    public int getLastNonBlankCellNum(int row) {
+        return (row < 0 || row > lastRowNum) ? -1 : lastNonBlankCells[row];
+    }
+
+    /**
+     * Returns the same result as {@link ReportPage#findEmptyRow(int)} default implementation.
+     *
+     * @return zero-based index of empty row or -1 if not found
+     */
+    public int findEmptyRow(int startRow) {
+        if (startRow < 0) {
+            return startRow; // absent row is empty
+        }
+        int row = emptyRows.nextSetBit(startRow);
+        return (row == -1 || row > lastRowNum) ? -1 : row;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Streaming report page, which keeps a bounded window of last read rows. Rows of the window are available
+ * through {@link ReportPage} methods: {@link #getRow(int)} returns rows of the window, {@link #getLastRowNum()}
+ * returns last read row number, search methods search in window rows only.
+ */
+@ToString(of = {"windowSize", "lastRowNum"})
+public class SlidingWindowReportPage extends AbstractReportPage<ReportPageRow> implements StreamingReportPage {
+
+    private final StreamingReportPage reportPage;
+    @Getter
+    private final int windowSize;
+    private final @Nullable ReportPageRow[] window;
+    /**
+     * Last read row number or -1 if no row is read
+     */
+    @Getter
+    private int lastRowNum = -1;
+
+    protected SlidingWindowReportPage(StreamingReportPage reportPage, int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size should be positive: " + windowSize);
+        }
+        this.reportPage = reportPage;
+        this.windowSize = windowSize;
+        this.window = new ReportPageRow[windowSize];
+    }
+
+    /**
+     * @param windowSize number of last read rows available by {@link #getRow(int)}
+     */
+    public static SlidingWindowReportPage of(StreamingReportPage reportPage, int windowSize) {
+        return new SlidingWindowReportPage(reportPage, windowSize);
+    }
+
+    /**
+     * Reads next row and moves window.
+     */
+    @Override
+    public @Nullable ReportPageRow nextRow() {
+        @Nullable ReportPageRow row = reportPage.nextRow();
+        if (row != null) {
+            int rowNum = row.getRowNum();
+            if (rowNum <= lastRowNum) {
+                throw new IllegalStateException("Rows are not in ascending order: row " + rowNum +
+                        " is read after row " + lastRowNum);
+            }
+            for (int i = max(lastRowNum + 1, rowNum - windowSize + 1); i < rowNum; i++) {
+                window[i % windowSize] = null; // absent rows
+            }
+            window[rowNum % windowSize] = row;
+            lastRowNum = rowNum;
+        }
+        return row;
+    }
+
+    /**
+     * @return first row number of window
+     */
+    public int getFirstRowNum() {
+        return max(0, lastRowNum - windowSize + 1);
+    }
+
+    /**
+     * @return row of window, null if row is absent or not read yet
+     * @throws IllegalArgumentException if row is already out of window
+     */
+    @Override
+    public @Nullable ReportPageRow getRow(int i) {
+        if (i > lastRowNum || i < 0) {
+            return null;
+        } else if (i < getFirstRowNum()) {
+            throw new IllegalArgumentException("Row " + i + " is out of sliding window [" +
+                    getFirstRowNum() + ", " + lastRowNum + "]");
+        }
+        return window[i % windowSize];
+    }
+
+    /**
+     * Finds cell in window rows.
+     */
+    @Override
+    public TableCellAddress find(Object value, int startRow, int endRow, int startColumn, int endColumn) {
+        return find(startRow, endRow, startColumn, endColumn, cellValue -> Objects.equals(value, cellValue));
+    }
+
+    /**
+     * Finds cell in window rows.
+     */
+    @Override
+    public TableCellAddress find(int startRow, int endRow,
+                                 int startColumn, int endColumn,
+                                 Predicate<Object> cellValuePredicate) {
+        for (int i = max(startRow, getFirstRowNum()), n = min(endRow, lastRowNum + 1); i < n; i++) {
+            @Nullable ReportPageRow row = window[i % windowSize];
+            if (row == null) {
+                continue;
+            }
+            for (@Nullable TableCell cell : row) {
+                if (cell != null) {
+                    int column = cell.getColumnIndex();
+                    @Nullable Object value = cell.getValue();
+                    if (startColumn <= column && column < endColumn &&
+                            value != null && cellValuePredicate.test(value)) {
+                        return TableCellAddress.of(i, column);
+                    }
+                }
+            }
+        }
+        return TableCellAddress.NOT_FOUND;
+    }
+}
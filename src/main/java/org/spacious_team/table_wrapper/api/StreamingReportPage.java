@@ -0,0 +1,40 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Forward-only report page. Implementation may read rows from underlying source on demand
+ * without holding the whole page in memory.
+ *
+ * @see SlidingWindowReportPage
+ * @see StreamingTable
+ */
+public interface StreamingReportPage {
+
+    /**
+     * Returns next existing row. Rows are returned in ascending row number order, absent rows are skipped.
+     *
+     * @return next row or null if page has no more rows
+     * @implSpec Returned row object state should not be changed by following calls, because rows may be buffered
+     */
+    @Nullable
+    ReportPageRow nextRow();
+}
@@ -0,0 +1,385 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.lang.Math.max;
+import static java.util.Objects.requireNonNull;
+import static org.spacious_team.table_wrapper.api.ReportPageHelper.getCellStringValueIgnoreCasePrefixPredicate;
+
+/**
+ * Table of {@link StreamingReportPage}. Table is found in constant memory: rows are read until table name row,
+ * then header rows are read for column indices resolving. Data rows are read on iteration, iteration stops
+ * after last row (footer) if last row finder is provided or at empty row otherwise.
+ * <p>
+ * Usage example:
+ * <pre>
+ *     Table table = StreamingTable.of(streamingSheet, "Table name", TableHeader.class);
+ *     table.getData(report, row -> ...);
+ * </pre>
+ *
+ * @implSpec Table can be iterated only once. Tables should be created in the order they appear in report page.
+ * If last row finder is provided but last row is not found, all rows till the page end are table rows.
+ * Methods {@link #findRow(Object)} and {@link #findRowByPrefix(String)} are not supported,
+ * {@link #subTable(int, int)} supports data rows exclusion only.
+ */
+@ToString(of = {"tableName"})
+public class StreamingTable implements Table {
+
+    public static final int DEFAULT_WINDOW_SIZE = 16;
+
+    @Getter
+    private final SlidingWindowReportPage reportPage;
+    private final String tableName;
+    private final @Nullable Predicate<Object> lastRowFinder;
+    @Getter
+    private final Map<TableColumn, Integer> headerDescription;
+    private final ColumnIndices columnIndices;
+    /**
+     * True if table name row is not found
+     */
+    @Getter
+    private final boolean empty;
+    private final int firstDataRowNum;
+    private final int excludedTopRows;
+    private final int excludedBottomRows;
+    private final AtomicBoolean iterated;
+
+    protected <T extends Enum<T> & TableHeaderColumn>
+    StreamingTable(SlidingWindowReportPage reportPage,
+                   String tableName,
+                   Predicate<Object> tableNameFinder,
+                   @Nullable Predicate<Object> lastRowFinder,
+                   Class<T> headerDescription,
+                   int headersRowCount) {
+        this.reportPage = reportPage;
+        this.tableName = tableName;
+        this.lastRowFinder = lastRowFinder;
+        this.excludedTopRows = 0;
+        this.excludedBottomRows = 0;
+        this.iterated = new AtomicBoolean();
+        @Nullable ReportPageRow tableNameRow = reportPage.nextRow();
+        while (tableNameRow != null && !ReportPageHelper.rowContains(tableNameRow, tableNameFinder)) {
+            tableNameRow = reportPage.nextRow();
+        }
+        if (tableNameRow == null) {
+            this.empty = true;
+            this.headerDescription = Collections.emptyMap();
+            this.columnIndices = ColumnIndices.EMPTY;
+            this.firstDataRowNum = -1;
+            return;
+        }
+        ReportPageRow[] headerRows = new ReportPageRow[headersRowCount];
+        for (int i = 0; i < headersRowCount; i++) {
+            @Nullable ReportPageRow row = reportPage.nextRow();
+            if (row != null && row.getRowNum() != tableNameRow.getRowNum() + 1 + i) {
+                row = null; // the row is after absent header row
+            }
+            @SuppressWarnings({"nullness"})
+            ReportPageRow notNullRow = requireNonNull(row, "Header row is absent");
+            headerRows[i] = notNullRow;
+        }
+        this.empty = false;
+        this.headerDescription = AbstractTable.getHeaderDescription(headerRows, headerDescription);
+        this.columnIndices = ColumnIndices.of(this.headerDescription, headerDescription);
+        this.firstDataRowNum = tableNameRow.getRowNum() + 1 + headersRowCount;
+    }
+
+    protected StreamingTable(StreamingTable table, int appendDataRowsToTop, int appendDataRowsToBottom) {
+        if (appendDataRowsToTop > 0 || appendDataRowsToBottom > 0) {
+            throw new UnsupportedOperationException("Streaming table rows can't be appended");
+        }
+        this.reportPage = table.reportPage;
+        this.tableName = table.tableName;
+        this.lastRowFinder = table.lastRowFinder;
+        this.headerDescription = table.headerDescription;
+        this.columnIndices = table.columnIndices;
+        this.empty = table.empty;
+        this.firstDataRowNum = table.firstDataRowNum;
+        this.excludedTopRows = table.excludedTopRows - appendDataRowsToTop;
+        this.excludedBottomRows = table.excludedBottomRows - appendDataRowsToBottom;
+        this.iterated = table.iterated;
+    }
+
+    /**
+     * Table starts with row containing cell starting with table name, ends with empty row.
+     * Table has one header row.
+     */
+    public static <T extends Enum<T> & TableHeaderColumn>
+    StreamingTable of(StreamingReportPage reportPage, String tableName, Class<T> headerDescription) {
+        return of(reportPage, tableName, headerDescription, 1);
+    }
+
+    /**
+     * Table starts with row containing cell starting with table name, ends with empty row.
+     */
+    public static <T extends Enum<T> & TableHeaderColumn>
+    StreamingTable of(StreamingReportPage reportPage,
+                      String tableName,
+                      Class<T> headerDescription,
+                      int headersRowCount) {
+        return of(reportPage, tableName, getCellStringValueIgnoreCasePrefixPredicate(tableName), null,
+                headerDescription, headersRowCount);
+    }
+
+    /**
+     * Table starts with row containing cell starting with table name, ends with row containing cell
+     * starting with last row string. Table has one header row.
+     */
+    public static <T extends Enum<T> & TableHeaderColumn>
+    StreamingTable of(StreamingReportPage reportPage,
+                      String tableName,
+                      String lastRowString,
+                      Class<T> headerDescription) {
+        return of(reportPage, tableName, lastRowString, headerDescription, 1);
+    }
+
+    /**
+     * Table starts with row containing cell starting with table name, ends with row containing cell
+     * starting with last row string.
+     */
+    public static <T extends Enum<T> & TableHeaderColumn>
+    StreamingTable of(StreamingReportPage reportPage,
+                      String tableName,
+                      String lastRowString,
+                      Class<T> headerDescription,
+                      int headersRowCount) {
+        return of(reportPage, tableName, getCellStringValueIgnoreCasePrefixPredicate(tableName),
+                getCellStringValueIgnoreCasePrefixPredicate(lastRowString), headerDescription, headersRowCount);
+    }
+
+    /**
+     * @param tableNameFinder table name containing row should contain cell satisfying predicate
+     * @param lastRowFinder   table's last row should contain cell satisfying predicate,
+     *                        if null table ends with empty row
+     */
+    public static <T extends Enum<T> & TableHeaderColumn>
+    StreamingTable of(StreamingReportPage reportPage,
+                      String tableName,
+                      Predicate<Object> tableNameFinder,
+                      @Nullable Predicate<Object> lastRowFinder,
+                      Class<T> headerDescription,
+                      int headersRowCount) {
+        SlidingWindowReportPage windowReportPage =
+                (reportPage instanceof SlidingWindowReportPage) ?
+                        (SlidingWindowReportPage) reportPage :
+                        SlidingWindowReportPage.of(reportPage, max(DEFAULT_WINDOW_SIZE, headersRowCount + 1));
+        return new StreamingTable(windowReportPage, tableName, tableNameFinder, lastRowFinder,
+                headerDescription, headersRowCount);
+    }
+
+    @Override
+    public <T> List<T> getData(Object report, Function<TableRow, @Nullable T> rowExtractor) {
+        return getDataCollection(report, TableDataHelper.getDataRowHandler(rowExtractor));
+    }
+
+    @Override
+    public <T> List<T> getDataCollection(Object report, Function<TableRow, @Nullable Collection<T>> rowExtractor) {
+        return getDataCollection(report, TableDataHelper.getDataCollectionRowHandler(rowExtractor));
+    }
+
+    @Override
+    public <T> List<T> getDataCollection(Object report, Function<TableRow, @Nullable Collection<T>> rowExtractor,
+                                         BiPredicate<T, T> equalityChecker,
+                                         BiFunction<T, T, @Nullable Collection<T>> mergeDuplicates) {
+        return getDataCollection(report,
+                TableDataHelper.getDataCollectionRowHandler(rowExtractor, equalityChecker, mergeDuplicates));
+    }
+
+    @Override
+    public <T> void forEachData(Object report,
+                                Function<TableRow, @Nullable T> rowExtractor,
+                                Consumer<? super T> consumer) {
+        TableDataHelper.<T>forEachData(tableName, report, iterator(), rowExtractor, consumer);
+    }
+
+    private <T> List<T> getDataCollection(Object report, BiConsumer<TableRow, Collection<T>> rowHandler) {
+        return TableDataHelper.handleRows(tableName, report, iterator(), new ArrayList<>(), rowHandler);
+    }
+
+    /**
+     * {@link TableRow} impl is mutable.
+     * For performance issue same object with changed state is provided in each loop cycle.
+     * Call {@link TableRow#clone()} if you want to use row object outside stream() block.
+     */
+    @Override
+    public Stream<@Nullable TableRow> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Iterator which reads data rows from report page. Returns {@link MutableTableRow} or {@link EmptyTableRow}
+     * for absent rows before last row.
+     *
+     * @throws IllegalStateException if table is already iterated
+     */
+    @Override
+    public Iterator<TableRow> iterator() {
+        if (iterated.getAndSet(true)) {
+            throw new IllegalStateException("Streaming table '" + tableName + "' can be iterated only once");
+        }
+        return new StreamingTableIterator();
+    }
+
+    /**
+     * @return row of report page sliding window
+     */
+    @Override
+    public @Nullable ReportPageRow getRow(int i) {
+        return reportPage.getRow(i);
+    }
+
+    @Override
+    public ColumnHandle column(TableHeaderColumn column) {
+        return ColumnHandle.of(column, columnIndices.getColumnIndex(column), TableCellDataAccessObject.INSTANCE);
+    }
+
+    /**
+     * @throws UnsupportedOperationException always, streaming report page is forward-only
+     */
+    @Override
+    public @Nullable TableRow findRow(Object value) {
+        throw new UnsupportedOperationException("Streaming table doesn't support row search");
+    }
+
+    /**
+     * @throws UnsupportedOperationException always, streaming report page is forward-only
+     */
+    @Override
+    public @Nullable TableRow findRowByPrefix(String prefix) {
+        throw new UnsupportedOperationException("Streaming table doesn't support row search");
+    }
+
+    /**
+     * Returns table view. Only one of table or its sub tables can be iterated.
+     *
+     * @param topRows    zero or negative value for exclusion
+     * @param bottomRows zero or negative value for exclusion
+     * @throws UnsupportedOperationException if positive value is provided
+     */
+    @Override
+    public Table subTable(int topRows, int bottomRows) {
+        return new StreamingTable(this, topRows, bottomRows);
+    }
+
+    private class StreamingTableIterator implements Iterator<TableRow> {
+        private final MutableTableRow<ReportPageRow> tableRow =
+                new MutableTableRow<>(StreamingTable.this, TableCellDataAccessObject.INSTANCE, columnIndices);
+        /**
+         * Read rows, which are not yet returned, used to exclude bottom rows
+         */
+        private final Deque<TableRow> pendingRows = new ArrayDeque<>();
+        /**
+         * Row read from report page, but not yet returned because of absent rows before it
+         */
+        private @Nullable ReportPageRow readRow = null;
+        private int nextRowNum = firstDataRowNum;
+        private int skippedTopRows = 0;
+        private boolean finished = empty;
+
+        @Override
+        public boolean hasNext() {
+            while (pendingRows.size() <= excludedBottomRows) {
+                @Nullable TableRow row = readNextRow();
+                if (row == null) {
+                    return false;
+                } else if (skippedTopRows < excludedTopRows) {
+                    skippedTopRows++;
+                } else {
+                    pendingRows.addLast(row);
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public TableRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return pendingRows.removeFirst();
+        }
+
+        private @Nullable TableRow readNextRow() {
+            if (finished) {
+                return null;
+            }
+            @Nullable ReportPageRow row = readRow;
+            if (row == null) {
+                row = reportPage.nextRow();
+                if (row == null) {
+                    finished = true;
+                    return null;
+                }
+            }
+            int rowNum = nextRowNum++;
+            if (row.getRowNum() > rowNum) { // absent row
+                readRow = row;
+                if (lastRowFinder == null) {
+                    finished = true; // empty row
+                    return null;
+                }
+                return new EmptyTableRow(StreamingTable.this, rowNum);
+            }
+            readRow = null;
+            if (lastRowFinder == null) {
+                if (ReportPageHelper.isEmptyRow(row)) {
+                    finished = true;
+                    return null;
+                }
+            } else if (ReportPageHelper.rowContains(row, lastRowFinder)) {
+                finished = true;
+            }
+            return toTableRow(row);
+        }
+
+        private TableRow toTableRow(ReportPageRow row) {
+            if (excludedBottomRows == 0) {
+                tableRow.setRow(row);
+                return tableRow;
+            }
+            MutableTableRow<ReportPageRow> newTableRow =
+                    new MutableTableRow<>(StreamingTable.this, TableCellDataAccessObject.INSTANCE, columnIndices);
+            newTableRow.setRow(row);
+            return newTableRow;
+        }
+    }
+}
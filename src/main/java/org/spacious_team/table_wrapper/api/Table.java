@@ -20,11 +20,16 @@ package org.spacious_team.table_wrapper.api;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -61,6 +66,68 @@ public interface Table extends Iterable<@Nullable TableRow> {
                                   BiPredicate<T, T> equalityChecker,
                                   BiFunction<T, T, @Nullable Collection<T>> mergeDuplicates);
 
+    /**
+     * Extracts exactly one object from excel row and passes it to consumer without collecting objects to list
+     */
+    default <T> void forEachData(Function<TableRow, @Nullable T> rowExtractor, Consumer<? super T> consumer) {
+        this.<T>forEachData("unknown", rowExtractor, consumer);
+    }
+
+    /**
+     * Passes extracted objects to consumer as rows are read. Row extractor exceptions are logged
+     * like in {@link #getData(Object, Function)}, consumer exceptions are thrown.
+     */
+    default <T> void forEachData(Object report,
+                                 Function<TableRow, @Nullable T> rowExtractor,
+                                 Consumer<? super T> consumer) {
+        TableDataHelper.<T>forEachData(this, report, iterator(), rowExtractor, consumer);
+    }
+
+    /**
+     * Passes extracted objects to consumer by batches, only one batch of objects is kept in memory.
+     * Last batch may be smaller than batch size.
+     *
+     * @param batchSize maximum number of objects in batch
+     * @throws IllegalArgumentException if batch size is not positive
+     */
+    default <T> void forEachData(Object report, Function<TableRow, @Nullable T> rowExtractor,
+                                 int batchSize, Consumer<? super List<T>> batchConsumer) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size should be positive: " + batchSize);
+        }
+        List<T> batch = new ArrayList<>(batchSize);
+        this.<T>forEachData(report, rowExtractor, data -> {
+            batch.add(data);
+            if (batch.size() == batchSize) {
+                batchConsumer.accept(List.copyOf(batch));
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(List.copyOf(batch));
+        }
+    }
+
+    /**
+     * Returns publisher of objects extracted from table rows, subscriber signals are sent by common pool threads.
+     *
+     * @see TablePublisher
+     */
+    default <T> Flow.Publisher<T> publisher(Function<TableRow, @Nullable T> rowExtractor) {
+        return this.<T>publisher(rowExtractor, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns publisher of objects extracted from table rows. Rows are read and extracted only
+     * if subscriber requested objects.
+     *
+     * @param executor executor sending subscriber signals
+     * @see TablePublisher
+     */
+    default <T> Flow.Publisher<T> publisher(Function<TableRow, @Nullable T> rowExtractor, Executor executor) {
+        return TablePublisher.<T>of(this, rowExtractor, executor);
+    }
+
     boolean isEmpty();
 
     Stream<@Nullable TableRow> stream();
@@ -87,6 +154,20 @@ public interface Table extends Iterable<@Nullable TableRow> {
 
     Map<TableColumn, Integer> getHeaderDescription();
 
+    /**
+     * Returns column handle, which reads row values without column index lookup on each call.
+     * Call once per table and reuse handle for all table rows.
+     *
+     * @return handle of column, {@link ColumnHandle#isPresent()} is false if column is not found in table header
+     */
+    default ColumnHandle column(TableHeaderColumn column) {
+        @Nullable Integer cellIndex = getHeaderDescription().get(column.getColumn());
+        if (cellIndex == null) {
+            return ColumnHandle.of(column, ColumnIndices.NOT_FOUND);
+        }
+        return ColumnHandle.of(column, cellIndex);
+    }
+
     /**
      * By default, table iterates throw all rows, call method if last row is "total" row, and it should be excluded
      */
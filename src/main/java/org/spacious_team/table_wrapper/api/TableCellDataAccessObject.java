@@ -0,0 +1,78 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Reads values by {@link TableCell} methods, so values are converted by report page implementation.
+ */
+final class TableCellDataAccessObject implements CellDataAccessObject<TableCell, ReportPageRow> {
+
+    static final TableCellDataAccessObject INSTANCE = new TableCellDataAccessObject();
+
+    @Override
+    public @Nullable TableCell getCell(ReportPageRow row, Integer cellIndex) {
+        return row.getCell(cellIndex);
+    }
+
+    @Override
+    public @Nullable Object getValue(TableCell cell) {
+        return cell.getValue();
+    }
+
+    @Override
+    public int getIntValue(TableCell cell) {
+        return cell.getIntValue();
+    }
+
+    @Override
+    public long getLongValue(TableCell cell) {
+        return cell.getLongValue();
+    }
+
+    @Override
+    public double getDoubleValue(TableCell cell) {
+        return cell.getDoubleValue();
+    }
+
+    @Override
+    public BigDecimal getBigDecimalValue(TableCell cell) {
+        return cell.getBigDecimalValue();
+    }
+
+    @Override
+    public String getStringValue(TableCell cell) {
+        return cell.getStringValue();
+    }
+
+    @Override
+    public Instant getInstantValue(TableCell cell) {
+        return cell.getInstantValue();
+    }
+
+    @Override
+    public LocalDateTime getLocalDateTimeValue(TableCell cell) {
+        return cell.getLocalDateTimeValue();
+    }
+}
@@ -19,6 +19,10 @@
 package org.spacious_team.table_wrapper.api;
 
 public interface TableColumn {
+    /**
+     * Column index returned by {@link #findColumnIndex(int, ReportPageRow...)} if column is not found
+     */
+    int NOT_FOUND = Integer.MIN_VALUE;
     TableColumn LEFTMOST_COLUMN = (firstColumnForSearch, $) -> firstColumnForSearch;
     TableColumn NOCOLUMN = (i, j) -> {
         throw new TableColumnNotFound("No column impl");
@@ -40,4 +44,21 @@ public interface TableColumn {
      * @throws TableColumnNotFound if column is not found
      */
     int getColumnIndex(int firstColumnForSearch, ReportPageRow... headerRows);
+
+    /**
+     * Finds column without exception creation if column is not found.
+     *
+     * @param firstColumnForSearch start column index for search from
+     * @param headerRows           header rows
+     * @return column index of table or {@link #NOT_FOUND}
+     * @implSpec Default implementation catches {@link #getColumnIndex(int, ReportPageRow...)} exception,
+     * implementations should override it to find column without exception throwing
+     */
+    default int findColumnIndex(int firstColumnForSearch, ReportPageRow... headerRows) {
+        try {
+            return getColumnIndex(firstColumnForSearch, headerRows);
+        } catch (RuntimeException e) {
+            return NOT_FOUND;
+        }
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Row handling of {@link Table} data extraction methods
+ */
+@Slf4j
+@RequiredArgsConstructor(access = PRIVATE)
+final class TableDataHelper {
+
+    /**
+     * @return row handler of {@link Table#getData(Object, Function)}
+     */
+    static <T> BiConsumer<TableRow, Collection<T>> getDataRowHandler(Function<TableRow, @Nullable T> rowExtractor) {
+        return (row, data) -> {
+            @Nullable T result = rowExtractor.apply(row);
+            if (result != null) {
+                data.add(result);
+            }
+        };
+    }
+
+    /**
+     * @return row handler of {@link Table#getDataCollection(Object, Function)}
+     */
+    static <T> BiConsumer<TableRow, Collection<T>> getDataCollectionRowHandler(
+            Function<TableRow, @Nullable Collection<T>> rowExtractor) {
+        return (row, data) -> {
+            @Nullable Collection<T> result = rowExtractor.apply(row);
+            if (result != null) {
+                data.addAll(result);
+            }
+        };
+    }
+
+    /**
+     * @return row handler of {@link Table#getDataCollection(Object, Function, BiPredicate, BiFunction)}
+     */
+    static <T> BiConsumer<TableRow, Collection<T>> getDataCollectionRowHandler(
+            Function<TableRow, @Nullable Collection<T>> rowExtractor,
+            BiPredicate<T, T> equalityChecker,
+            BiFunction<T, T, @Nullable Collection<T>> mergeDuplicates) {
+        return (row, data) -> {
+            @Nullable Collection<T> result = rowExtractor.apply(row);
+            if (result != null) {
+                for (T r : result) {
+                    AbstractTable.addWithEqualityChecker(r, data, equalityChecker, mergeDuplicates);
+                }
+            }
+        };
+    }
+
+    /**
+     * Passes rows to row handler, row handler exceptions are logged
+     *
+     * @param tableName table name or table, used for logging
+     * @return data
+     */
+    static <D> D handleRows(Object tableName,
+                            Object report,
+                            Iterator<? extends @Nullable TableRow> rows,
+                            D data,
+                            BiConsumer<TableRow, ? super D> rowHandler) {
+        while (rows.hasNext()) {
+            @Nullable TableRow row = rows.next();
+            if (row != null) {
+                try {
+                    rowHandler.accept(row, data);
+                } catch (Exception e) {
+                    logRowError(tableName, report, row.getRowNum(), e);
+                }
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Passes extracted objects to consumer, row extractor exceptions are logged, consumer exceptions are thrown
+     *
+     * @param tableName table name or table, used for logging
+     */
+    static <T> void forEachData(Object tableName,
+                                Object report,
+                                Iterator<? extends @Nullable TableRow> rows,
+                                Function<TableRow, @Nullable T> rowExtractor,
+                                Consumer<? super T> consumer) {
+        while (rows.hasNext()) {
+            @Nullable TableRow row = rows.next();
+            if (row != null) {
+                @Nullable T result = null;
+                try {
+                    result = rowExtractor.apply(row);
+                } catch (Exception e) {
+                    logRowError(tableName, report, row.getRowNum(), e);
+                }
+                if (result != null) {
+                    consumer.accept(result);
+                }
+            }
+        }
+    }
+
+    static void logRowError(Object tableName, Object report, int rowNum, Exception e) {
+        log.warn("Не могу распарсить таблицу '{}' в {}, строка {}", tableName, report, rowNum + 1, e);
+    }
+}
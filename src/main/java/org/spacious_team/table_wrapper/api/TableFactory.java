@@ -18,6 +18,11 @@
 
 package org.spacious_team.table_wrapper.api;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 public interface TableFactory {
@@ -288,6 +293,72 @@ public interface TableFactory {
                 headersRowCount);
     }
 
+    /**
+     * Computes ranges of many tables on report page together. Tables first and last rows are found by predicates
+     * by two passes over report page instead of two passes per table. Use
+     * {@link #create(ReportPage, String, TableCellRange, Class, int)} to create tables for returned ranges.
+     *
+     * @param tableNameFinders table name containing row should contain cell satisfying predicate
+     * @param lastRowFinders   table's last row should contain cell satisfying predicate,
+     *                         list size and order should be the same as for table name finders
+     * @return table ranges in finders order, {@link TableCellRange#EMPTY_RANGE} for not found tables
+     */
+    default List<TableCellRange> getTableCellRanges(ReportPage reportPage,
+                                                    List<Predicate<Object>> tableNameFinders,
+                                                    List<Predicate<Object>> lastRowFinders,
+                                                    int headersRowCount) {
+        return reportPage.getTableCellRanges(tableNameFinders, headersRowCount, lastRowFinders);
+    }
+
+    /**
+     * Creates many tables of report page together. Table name rows of all tables are found by one pass
+     * over report page rows, last rows of tables with last row finders are found by another one pass.
+     * Empty row is searched once for tables, which empty row search areas overlap.
+     *
+     * @return tables in specs order, empty tables for not found specs
+     * @see #create(ReportPage, String, TableCellRange, Class, int)
+     */
+    default List<Table> createAll(ReportPage reportPage, List<? extends TableSpec<?>> tableSpecs) {
+        int count = tableSpecs.size();
+        List<Predicate<Object>> tableNameFinders = new ArrayList<>(count);
+        List<Predicate<Object>> lastRowFinders = new ArrayList<>(count);
+        for (TableSpec<?> spec : tableSpecs) {
+            @Nullable Predicate<Object> lastRowFinder = spec.getLastRowFinder();
+            tableNameFinders.add(spec.getTableNameFinder());
+            lastRowFinders.add((lastRowFinder == null) ? value -> false : lastRowFinder);
+        }
+        List<TableCellAddress> startAddresses = reportPage.findFirstMatches(tableNameFinders);
+        int[] lastRowSearchStartRows = new int[count];
+        int[] emptyRowSearchStartRows = new int[count];
+        for (int i = 0; i < count; i++) {
+            TableSpec<?> spec = tableSpecs.get(i);
+            TableCellAddress startAddress = startAddresses.get(i);
+            int dataStartRow = startAddress.equals(TableCellAddress.NOT_FOUND) ?
+                    Integer.MAX_VALUE : // skip search
+                    startAddress.getRow() + spec.getHeadersRowCount() + 1;
+            boolean hasLastRowFinder = (spec.getLastRowFinder() != null);
+            lastRowSearchStartRows[i] = hasLastRowFinder ? dataStartRow : Integer.MAX_VALUE;
+            emptyRowSearchStartRows[i] = hasLastRowFinder ? Integer.MAX_VALUE : dataStartRow;
+        }
+        List<TableCellAddress> endAddresses = ReportPageHelper.findFirstMatches(
+                reportPage, lastRowFinders, lastRowSearchStartRows, Integer.MAX_VALUE, 0, Integer.MAX_VALUE);
+        int[] emptyRows = ReportPageHelper.findEmptyRows(reportPage, emptyRowSearchStartRows);
+        List<Table> tables = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TableSpec<?> spec = tableSpecs.get(i);
+            TableCellAddress startAddress = startAddresses.get(i);
+            TableCellRange range;
+            if (startAddress.equals(TableCellAddress.NOT_FOUND)) {
+                range = TableCellRange.EMPTY_RANGE;
+            } else if (spec.getLastRowFinder() != null) {
+                range = ReportPageHelper.getTableCellRange(reportPage, startAddress, endAddresses.get(i));
+            } else {
+                range = ReportPageHelper.getTableCellRange(reportPage, startAddress, emptyRows[i]);
+            }
+            tables.add(spec.create(this, reportPage, range));
+        }
+        return tables;
+    }
 
     <T extends Enum<T> & TableHeaderColumn>
     Table create(ReportPage reportPage,
@@ -295,4 +366,22 @@ public interface TableFactory {
                  TableCellRange tableRange,
                  Class<T> headerDescription,
                  int headersRowCount);
+
+    /**
+     * Creates table with header description already resolved by header rows.
+     * Default implementation ignores resolved header description, {@link AbstractTableFactory} passes it
+     * to created {@link AbstractTable}, so header rows are not read again.
+     *
+     * @param resolvedHeaderDescription column indices, as {@link Table#getHeaderDescription()} returns them
+     * @see TableLayoutMatch#createTable(ReportPage)
+     */
+    default <T extends Enum<T> & TableHeaderColumn>
+    Table create(ReportPage reportPage,
+                 String tableName,
+                 TableCellRange tableRange,
+                 Class<T> headerDescription,
+                 int headersRowCount,
+                 Map<TableColumn, Integer> resolvedHeaderDescription) {
+        return create(reportPage, tableName, tableRange, headerDescription, headersRowCount);
+    }
 }
@@ -19,49 +19,195 @@
 package org.spacious_team.table_wrapper.api;
 
 import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
 
 import static java.util.Collections.unmodifiableSet;
 import static lombok.AccessLevel.PRIVATE;
 
+/**
+ * Registry of table factories. Factories with greater priority are checked first, factories with equal priorities
+ * are checked in registration order.
+ * <p>
+ * Factory found for report page class is cached. {@link AbstractTableFactory} (which doesn't override
+ * {@link AbstractTableFactory#canHandle(ReportPage)}) is selected by report page class without
+ * {@code canHandle()} call, so lookup cost doesn't depend on number of registered factories.
+ * Other factories are checked by {@link TableFactory#canHandle(ReportPage)} for each report page.
+ */
 @RequiredArgsConstructor(access = PRIVATE)
 public final class TableFactoryRegistry {
 
-    private static final Set<TableFactory> factories = new CopyOnWriteArraySet<>();
+    public static final int DEFAULT_PRIORITY = 0;
+    private static volatile Dispatcher dispatcher = new Dispatcher(new Registration[0]);
+    private static final Set<TableFactory> factories = new RegisteredFactories();
 
+    /**
+     * Registers factory with {@link #DEFAULT_PRIORITY}
+     */
     public static void add(TableFactory tableFactory) {
-        factories.add(tableFactory);
+        add(tableFactory, DEFAULT_PRIORITY);
+    }
+
+    /**
+     * Registers factory, if it is not registered yet.
+     *
+     * @param priority factories with greater priority are checked first
+     */
+    public static synchronized void add(TableFactory tableFactory, int priority) {
+        Objects.requireNonNull(tableFactory, "Table factory is null");
+        Registration[] registrations = dispatcher.registrations;
+        for (Registration registration : registrations) {
+            if (registration.factory.equals(tableFactory)) {
+                return;
+            }
+        }
+        List<Registration> newRegistrations = new ArrayList<>(Arrays.asList(registrations));
+        newRegistrations.add(new Registration(tableFactory, priority));
+        newRegistrations.sort(Comparator.comparingInt((Registration r) -> r.priority).reversed()); // stable
+        dispatcher = new Dispatcher(newRegistrations.toArray(new Registration[0]));
     }
 
     /**
      * @return {@code true} if factory was removed as a result of this call
      */
-    public static boolean remove(TableFactory tableFactory) {
-        return factories.remove(tableFactory);
+    public static synchronized boolean remove(TableFactory tableFactory) {
+        Registration[] registrations = dispatcher.registrations;
+        Registration[] newRegistrations = Arrays.stream(registrations)
+                .filter(registration -> !registration.factory.equals(tableFactory))
+                .toArray(Registration[]::new);
+        if (newRegistrations.length == registrations.length) {
+            return false;
+        }
+        dispatcher = new Dispatcher(newRegistrations);
+        return true;
     }
 
+    /**
+     * @return unmodifiable live view of registered factories in priority order
+     */
     @SuppressWarnings("unused")
     public static Collection<TableFactory> getAll() {
         return unmodifiableSet(factories);
     }
 
-    public static void clear() {
-        factories.clear();
+    public static synchronized void clear() {
+        dispatcher = new Dispatcher(new Registration[0]);
     }
 
 
     public static TableFactory get(ReportPage reportPage) {
         Objects.requireNonNull(reportPage, "Report page is null");
-        for (TableFactory factory : factories) {
-            if (factory.canHandle(reportPage)) {
-                return factory;
+        for (Candidate candidate : dispatcher.getCandidates(reportPage.getClass())) {
+            if (candidate.matched || candidate.factory.canHandle(reportPage)) {
+                return candidate.factory;
             }
         }
         throw new IllegalArgumentException(
                 "No factory registered for report page of type " + reportPage.getClass().getSimpleName());
     }
+
+    /**
+     * Registered factories view, reflects registrations made after view creation
+     */
+    private static final class RegisteredFactories extends AbstractSet<TableFactory> {
+
+        @Override
+        public Iterator<TableFactory> iterator() {
+            return Arrays.stream(dispatcher.registrations)
+                    .map(registration -> registration.factory)
+                    .iterator();
+        }
+
+        @Override
+        public int size() {
+            return dispatcher.registrations.length;
+        }
+    }
+
+    /**
+     * Immutable registrations snapshot with factory candidates cached by report page class
+     */
+    private static final class Dispatcher {
+        private final Registration[] registrations;
+        private final ClassValue<Candidate[]> candidates;
+
+        Dispatcher(Registration[] registrations) {
+            this.registrations = registrations;
+            this.candidates = new ClassValue<>() {
+                @Override
+                protected Candidate[] computeValue(Class<?> reportPageType) {
+                    return computeCandidates(registrations, reportPageType);
+                }
+            };
+        }
+
+        Candidate[] getCandidates(Class<?> reportPageType) {
+            return candidates.get(reportPageType);
+        }
+
+        private static Candidate[] computeCandidates(Registration[] registrations, Class<?> reportPageType) {
+            boolean isForwardingReportPage = AbstractForwardingReportPage.class.isAssignableFrom(reportPageType);
+            List<Candidate> result = new ArrayList<>();
+            for (Registration registration : registrations) {
+                @Nullable Class<?> supportedType = registration.supportedReportPageType;
+                if (supportedType == null || isForwardingReportPage) {
+                    result.add(new Candidate(registration.factory, false));
+                } else if (supportedType.isAssignableFrom(reportPageType)) {
+                    result.add(new Candidate(registration.factory, true));
+                    break; // next factories are never checked
+                }
+            }
+            return result.toArray(new Candidate[0]);
+        }
+    }
+
+    private static final class Registration {
+        private final TableFactory factory;
+        private final int priority;
+        /**
+         * Report page type, if factory can handle report page determined by report page class only, otherwise null
+         */
+        private final @Nullable Class<?> supportedReportPageType;
+
+        Registration(TableFactory factory, int priority) {
+            this.factory = factory;
+            this.priority = priority;
+            this.supportedReportPageType = getSupportedReportPageType(factory);
+        }
+
+        private static @Nullable Class<?> getSupportedReportPageType(
+                TableFactory factory) {
+            if (factory instanceof AbstractTableFactory) {
+                try {
+                    Class<?> declaringClass = factory.getClass()
+                            .getMethod("canHandle", ReportPage.class)
+                            .getDeclaringClass();
+                    if (declaringClass == AbstractTableFactory.class) {
+                        return ((AbstractTableFactory<?>) factory).getReportPageType();
+                    }
+                } catch (NoSuchMethodException ignore) {
+                }
+            }
+            return null;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class Candidate {
+        private final TableFactory factory;
+        /**
+         * True if factory can handle report page of class, otherwise {@link TableFactory#canHandle(ReportPage)}
+         * should be checked
+         */
+        private final boolean matched;
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.spacious_team.table_wrapper.api.ReportPageHelper.getCellStringValueIgnoreCasePrefixPredicate;
+
+/**
+ * Known table layout, registered in {@link TableLayoutRegistry}. Table starts with title row, containing cell
+ * with value matching title row finder, followed by header rows, which should match header description.
+ * Table ends as {@link TableLocator} table does.
+ */
+@Getter
+@ToString(of = {"name", "headerDescription", "headersRowCount"})
+public final class TableLayout<T extends Enum<T> & TableHeaderColumn> {
+
+    private final String name;
+    private final Predicate<Object> titleRowFinder;
+    private final Class<T> headerDescription;
+    private final int headersRowCount;
+    private final @Nullable Predicate<Object> lastRowFinder;
+    @Getter(AccessLevel.PACKAGE)
+    private final TableLocator tableLocator;
+
+    private TableLayout(String name,
+                        Predicate<Object> titleRowFinder,
+                        Class<T> headerDescription,
+                        int headersRowCount,
+                        @Nullable Predicate<Object> lastRowFinder) {
+        this.name = name;
+        this.titleRowFinder = titleRowFinder;
+        this.headerDescription = headerDescription;
+        this.headersRowCount = headersRowCount;
+        this.lastRowFinder = lastRowFinder;
+        this.tableLocator = (lastRowFinder == null) ?
+                TableLocator.of(List.of(titleRowFinder), headersRowCount) :
+                TableLocator.of(List.of(titleRowFinder), headersRowCount, lastRowFinder);
+    }
+
+    /**
+     * Table ends with empty row or last row of report page.
+     *
+     * @param name layout name, for example report format name
+     */
+    public static <T extends Enum<T> & TableHeaderColumn>
+    TableLayout<T> of(String name, Predicate<Object> titleRowFinder, Class<T> headerDescription, int headersRowCount) {
+        return new TableLayout<>(name, titleRowFinder, headerDescription, headersRowCount, null);
+    }
+
+    /**
+     * Table ends with footer row, empty row or last row of report page.
+     *
+     * @param name layout name, for example report format name
+     */
+    public static <T extends Enum<T> & TableHeaderColumn>
+    TableLayout<T> of(String name,
+                      Predicate<Object> titleRowFinder,
+                      Class<T> headerDescription,
+                      int headersRowCount,
+                      Predicate<Object> lastRowFinder) {
+        return new TableLayout<>(name, titleRowFinder, headerDescription, headersRowCount, lastRowFinder);
+    }
+
+    /**
+     * Table title row contains cell starting with prefix (case-insensitive),
+     * table ends with empty row or last row of report page.
+     *
+     * @param name layout name, for example report format name
+     */
+    public static <T extends Enum<T> & TableHeaderColumn>
+    TableLayout<T> ofPrefix(String name, String titleRowPrefix, Class<T> headerDescription, int headersRowCount) {
+        return of(name, getCellStringValueIgnoreCasePrefixPredicate(titleRowPrefix), headerDescription, headersRowCount);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Map;
+
+import static lombok.AccessLevel.PACKAGE;
+
+/**
+ * Table of report page, which matches to {@link TableLayout}
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = PACKAGE)
+public final class TableLayoutMatch {
+
+    private final TableLayout<?> layout;
+    /**
+     * Table range, as {@link TableLocator} finds it
+     */
+    private final TableCellRange tableRange;
+    /**
+     * Header description, resolved by header rows
+     */
+    private final Map<TableColumn, Integer> headerDescription;
+
+    /**
+     * Creates table by report page's table factory. Header description is not resolved again
+     * by {@link AbstractTableFactory} implementations.
+     *
+     * @see TableFactoryRegistry#get(ReportPage)
+     */
+    public Table createTable(ReportPage reportPage) {
+        return createTable(reportPage, layout);
+    }
+
+    private <T extends Enum<T> & TableHeaderColumn> Table createTable(ReportPage reportPage, TableLayout<T> layout) {
+        String tableName = TableFactoryHelper.getTableName(reportPage, layout.getTitleRowFinder(), tableRange);
+        return TableFactoryRegistry.get(reportPage)
+                .create(reportPage, tableName, tableRange, layout.getHeaderDescription(), layout.getHeadersRowCount(),
+                        headerDescription);
+    }
+}
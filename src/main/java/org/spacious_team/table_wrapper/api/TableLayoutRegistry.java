@@ -0,0 +1,158 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of known table layouts, detects report format by one pass over report page rows
+ * instead of trying to create tables with one header description after another.
+ * <p>
+ * Report page rows are read once, each row is checked by title row finders of all layouts. Found table header rows
+ * are checked by layout header description. Header fingerprints (header cell positions and values) are cached
+ * with resolved header descriptions, as well as fingerprints of headers which don't match layout, so tables
+ * of known report format are detected without header description resolution.
+ * <pre>
+ *     TableLayoutRegistry registry = TableLayoutRegistry.of();
+ *     registry.add(TableLayout.ofPrefix("broker A", "Сделки", BrokerATableHeader.class, 1));
+ *     registry.add(TableLayout.ofPrefix("broker B", "Сделки", BrokerBTableHeader.class, 2));
+ *     ...
+ *     for (TableLayoutMatch match : registry.detect(reportPage)) {
+ *         Table table = match.createTable(reportPage);
+ *     }
+ * </pre>
+ */
+@Slf4j
+@ToString(of = "layouts")
+public final class TableLayoutRegistry {
+
+    private static final int DEFAULT_FINGERPRINT_CACHE_SIZE = 256;
+    private final List<TableLayout<?>> layouts = new CopyOnWriteArrayList<>();
+    private final HeaderDescriptionCache fingerprints;
+
+    private TableLayoutRegistry(int fingerprintCacheSize) {
+        this.fingerprints = HeaderDescriptionCache.of(fingerprintCacheSize);
+    }
+
+    public static TableLayoutRegistry of() {
+        return of(DEFAULT_FINGERPRINT_CACHE_SIZE);
+    }
+
+    /**
+     * @param fingerprintCacheSize max number of cached header fingerprints
+     */
+    public static TableLayoutRegistry of(int fingerprintCacheSize) {
+        return new TableLayoutRegistry(fingerprintCacheSize);
+    }
+
+    public void add(TableLayout<?> layout) {
+        layouts.add(layout);
+    }
+
+    public boolean remove(TableLayout<?> layout) {
+        return layouts.remove(layout);
+    }
+
+    public List<TableLayout<?>> getLayouts() {
+        return Collections.unmodifiableList(layouts);
+    }
+
+    /**
+     * @return number of tables, detected by cached header fingerprint
+     */
+    public long getFingerprintHitCount() {
+        return fingerprints.getHitCount();
+    }
+
+    /**
+     * @return number of header descriptions, resolved by header rows
+     */
+    public long getFingerprintMissCount() {
+        return fingerprints.getMissCount();
+    }
+
+    /**
+     * Detects tables of known layouts. Found tables of different layouts may overlap,
+     * for example if layouts differ by header description only.
+     *
+     * @return matched tables in report page rows order, tables starting with the same row are
+     * provided in layouts registration order
+     */
+    public List<TableLayoutMatch> detect(ReportPage reportPage) {
+        TableLayout<?>[] layouts = this.layouts.toArray(new TableLayout<?>[0]);
+        List<TableLayoutMatch> candidates = new ArrayList<>();
+        TableLocator.Scanner[] scanners = new TableLocator.Scanner[layouts.length];
+        for (int i = 0; i < layouts.length; i++) {
+            TableLayout<?> layout = layouts[i];
+            scanners[i] = layout.getTableLocator()
+                    .scanner(range -> candidates.add(new TableLayoutMatch(layout, range, Collections.emptyMap())));
+        }
+        for (int i = 0, lastRowNum = reportPage.getLastRowNum(); i <= lastRowNum; i++) {
+            @Nullable ReportPageRow row = reportPage.getRow(i);
+            for (TableLocator.Scanner scanner : scanners) {
+                scanner.accept(i, row);
+            }
+        }
+        for (TableLocator.Scanner scanner : scanners) {
+            scanner.finish();
+        }
+        candidates.sort(Comparator.comparingInt(candidate -> candidate.getTableRange().getFirstRow()));
+        List<TableLayoutMatch> matches = new ArrayList<>(candidates.size());
+        for (TableLayoutMatch candidate : candidates) {
+            @Nullable Map<TableColumn, Integer> headerDescription =
+                    getHeaderDescription(reportPage, candidate.getLayout(), candidate.getTableRange());
+            if (headerDescription != null) {
+                matches.add(new TableLayoutMatch(candidate.getLayout(), candidate.getTableRange(), headerDescription));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * @return header description or null if table header doesn't match layout
+     */
+    private <T extends Enum<T> & TableHeaderColumn>
+    @Nullable Map<TableColumn, Integer> getHeaderDescription(ReportPage reportPage,
+                                                             TableLayout<T> layout,
+                                                             TableCellRange tableRange) {
+        ReportPageRow[] headerRows = new ReportPageRow[layout.getHeadersRowCount()];
+        for (int i = 0; i < headerRows.length; i++) {
+            @Nullable ReportPageRow row = reportPage.getRow(tableRange.getFirstRow() + 1 + i);
+            if (row == null) {
+                return null;
+            }
+            headerRows[i] = row;
+        }
+        @Nullable Map<TableColumn, Integer> headerDescription =
+                fingerprints.findHeaderDescription(headerRows, layout.getHeaderDescription());
+        if (headerDescription == null) {
+            log.debug("Table header doesn't match layout {}", layout.getName());
+        }
+        return headerDescription;
+    }
+}
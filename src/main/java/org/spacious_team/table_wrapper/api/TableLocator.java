@@ -0,0 +1,224 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.spacious_team.table_wrapper.api.ReportPageHelper.getCellStringValueIgnoreCasePrefixPredicate;
+
+/**
+ * Finds all tables of report page by one pass over page rows. Table starts with title row containing cell
+ * with value matching any of title row finders, followed by header rows and data rows. Table ends with
+ * row, preceding empty row, or with footer row containing cell with value matching last row finder,
+ * or with last row of report page. Header rows are not checked for emptiness, as
+ * {@link ReportPage#getTableCellRange(Predicate, int)} does.
+ * <p>
+ * Every row cell is read once, title row finders are tested until table title row is found,
+ * last row finder is tested only for table data rows.
+ */
+@ToString
+public final class TableLocator {
+
+    private final List<Predicate<Object>> titleRowFinders;
+    private final int headersRowCount;
+    private final @Nullable Predicate<Object> lastRowFinder;
+
+    private TableLocator(List<Predicate<Object>> titleRowFinders,
+                         int headersRowCount,
+                         @Nullable Predicate<Object> lastRowFinder) {
+        if (titleRowFinders.isEmpty()) {
+            throw new IllegalArgumentException("Title row finders are not provided");
+        } else if (headersRowCount < 0) {
+            throw new IllegalArgumentException("Headers row count is negative: " + headersRowCount);
+        }
+        this.titleRowFinders = List.copyOf(titleRowFinders);
+        this.headersRowCount = headersRowCount;
+        this.lastRowFinder = lastRowFinder;
+    }
+
+    /**
+     * Tables end with empty row or last row of report page.
+     */
+    public static TableLocator of(List<Predicate<Object>> titleRowFinders, int headersRowCount) {
+        return new TableLocator(titleRowFinders, headersRowCount, null);
+    }
+
+    /**
+     * Tables end with footer row, empty row or last row of report page.
+     */
+    public static TableLocator of(List<Predicate<Object>> titleRowFinders,
+                                  int headersRowCount,
+                                  Predicate<Object> lastRowFinder) {
+        return new TableLocator(titleRowFinders, headersRowCount, lastRowFinder);
+    }
+
+    /**
+     * Table title row contains cell starting with any of prefixes (case-insensitive),
+     * tables end with empty row or last row of report page.
+     */
+    public static TableLocator ofPrefixes(List<String> titleRowPrefixes, int headersRowCount) {
+        List<Predicate<Object>> titleRowFinders = new ArrayList<>(titleRowPrefixes.size());
+        for (String prefix : titleRowPrefixes) {
+            titleRowFinders.add(getCellStringValueIgnoreCasePrefixPredicate(prefix));
+        }
+        return of(titleRowFinders, headersRowCount);
+    }
+
+    /**
+     * @return ranges of found tables in report page rows order
+     */
+    public List<TableCellRange> locate(ReportPage reportPage) {
+        List<TableCellRange> ranges = new ArrayList<>();
+        locate(reportPage, ranges::add);
+        return ranges;
+    }
+
+    /**
+     * Provides ranges of found tables to consumer in report page rows order
+     */
+    public void locate(ReportPage reportPage, Consumer<TableCellRange> tableRangeConsumer) {
+        Scanner scanner = new Scanner(tableRangeConsumer);
+        for (int i = 0, lastRowNum = reportPage.getLastRowNum(); i <= lastRowNum; i++) {
+            scanner.accept(i, reportPage.getRow(i));
+        }
+        scanner.finish();
+    }
+
+    /**
+     * Finds tables by report page rows, provided one by one in ascending order. Allows to locate tables
+     * by many locators in one pass over report page rows.
+     */
+    @RequiredArgsConstructor(access = PRIVATE)
+    final class Scanner {
+        private final Consumer<TableCellRange> tableRangeConsumer;
+        private @Nullable ReportPageRow titleRow = null;
+        private @Nullable ReportPageRow lastDataRow = null;
+        private int firstDataRowNum = -1;
+
+        /**
+         * @param rowNum report page row number, should be greater than previous call row number
+         * @param row    report page row, null if absent
+         */
+        void accept(int rowNum, @Nullable ReportPageRow row) {
+            @Nullable ReportPageRow titleRow = this.titleRow;
+            if (titleRow == null) {
+                if (row != null && isTitleRow(row)) {
+                    this.titleRow = row;
+                    lastDataRow = row;
+                    firstDataRowNum = rowNum + headersRowCount + 1;
+                }
+            } else if (rowNum < firstDataRowNum) {
+                if (row != null) {
+                    lastDataRow = row; // header row
+                }
+            } else {
+                RowType rowType = getDataRowType(row);
+                if (rowType == RowType.EMPTY) {
+                    tableRangeConsumer.accept(getTableCellRange(titleRow, lastDataRow));
+                    this.titleRow = null;
+                } else if (row != null) {
+                    lastDataRow = row;
+                    if (rowType == RowType.FOOTER) {
+                        tableRangeConsumer.accept(getTableCellRange(titleRow, row));
+                        this.titleRow = null;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Completes table, which ends with last report page row
+         */
+        void finish() {
+            @Nullable ReportPageRow titleRow = this.titleRow;
+            if (titleRow != null) {
+                tableRangeConsumer.accept(getTableCellRange(titleRow, lastDataRow));
+                this.titleRow = null;
+            }
+        }
+    }
+
+    /**
+     * @return scanner, which provides ranges of found tables to consumer
+     */
+    Scanner scanner(Consumer<TableCellRange> tableRangeConsumer) {
+        return new Scanner(tableRangeConsumer);
+    }
+
+    private boolean isTitleRow(ReportPageRow row) {
+        for (@Nullable TableCell cell : row) {
+            if (cell != null) {
+                @Nullable Object value = cell.getValue();
+                if (value != null) {
+                    for (Predicate<Object> titleRowFinder : titleRowFinders) {
+                        if (titleRowFinder.test(value)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks row for emptiness and for last row finder match by one pass over row cells
+     */
+    private RowType getDataRowType(@Nullable ReportPageRow row) {
+        if (row == null || row.getLastCellNum() == -1) {
+            return RowType.EMPTY;
+        }
+        boolean isEmpty = true;
+        for (@Nullable TableCell cell : row) {
+            if (cell != null) {
+                @Nullable Object value = cell.getValue();
+                if (value != null && !(value instanceof String && ((String) value).isEmpty())) {
+                    if (lastRowFinder == null) {
+                        return RowType.DATA;
+                    } else if (lastRowFinder.test(value)) {
+                        return RowType.FOOTER;
+                    }
+                    isEmpty = false;
+                }
+            }
+        }
+        return isEmpty ? RowType.EMPTY : RowType.DATA;
+    }
+
+    private static TableCellRange getTableCellRange(ReportPageRow firstRow, @Nullable ReportPageRow lastRow) {
+        ReportPageRow row = (lastRow == null) ? firstRow : lastRow;
+        return TableCellRange.of(
+                firstRow.getRowNum(),
+                row.getRowNum(),
+                firstRow.getFirstCellNum(),
+                row.getLastCellNum());
+    }
+
+    private enum RowType {
+        EMPTY, DATA, FOOTER
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Publisher of objects extracted from table rows. Each subscriber iterates table rows by its own iterator,
+ * rows are read and extracted only if subscriber requested objects. Subscriber signals are sent
+ * by executor tasks, one task at a time for each subscriber.
+ * <p>
+ * Row extractor exception is signalled by {@link Flow.Subscriber#onError(Throwable)} and stops publishing,
+ * null values of row extractor are skipped.
+ *
+ * @implNote {@link StreamingTable} rows can be read once, so streaming table publisher supports one subscriber.
+ */
+@Slf4j
+@ToString(of = "table")
+@RequiredArgsConstructor(access = PRIVATE)
+public final class TablePublisher<T> implements Flow.Publisher<T> {
+
+    private final Table table;
+    private final Function<TableRow, @Nullable T> rowExtractor;
+    private final Executor executor;
+
+    public static <T> TablePublisher<T> of(Table table,
+                                           Function<TableRow, @Nullable T> rowExtractor,
+                                           Executor executor) {
+        return new TablePublisher<>(table, rowExtractor, executor);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber, "Subscriber is null");
+        new RowSubscription(subscriber).schedule();
+    }
+
+    private final class RowSubscription implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        /**
+         * Number of not processed signals, task is scheduled on 0 to 1 transition
+         */
+        private final AtomicInteger pendingSignals = new AtomicInteger();
+        private volatile boolean done = false;
+        private volatile @Nullable Throwable invalidRequest = null;
+        // fields below are accessed by scheduled task only
+        private boolean subscribed = false;
+        private @Nullable Iterator<@Nullable TableRow> rows = null;
+
+        private RowSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested number of objects should be positive: " + n);
+            } else {
+                demand.getAndUpdate(current -> (current + n < 0) ? Long.MAX_VALUE : current + n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+        }
+
+        private void schedule() {
+            if (pendingSignals.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    if (!subscribed) {
+                        subscribed = true;
+                        subscriber.onSubscribe(this);
+                    }
+                    signalError(e);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int signals = pendingSignals.get();
+            do {
+                publish();
+                signals = pendingSignals.addAndGet(-signals);
+            } while (signals != 0);
+        }
+
+        private void publish() {
+            if (!subscribed) {
+                subscribed = true;
+                subscriber.onSubscribe(this);
+            }
+            @Nullable Throwable error = invalidRequest;
+            if (done) {
+                return;
+            } else if (error != null) {
+                signalError(error);
+                return;
+            }
+            long requested = demand.get();
+            if (requested == 0) {
+                return;
+            }
+            try {
+                @Nullable Iterator<@Nullable TableRow> rows = this.rows;
+                if (rows == null) {
+                    rows = table.iterator(); // table header is read on first request
+                    this.rows = rows;
+                }
+                long published = 0;
+                while (!done && published < requested) {
+                    if (!rows.hasNext()) {
+                        done = true;
+                        subscriber.onComplete();
+                        return;
+                    }
+                    @Nullable TableRow row = rows.next();
+                    if (row == null) {
+                        continue;
+                    }
+                    @Nullable T value = rowExtractor.apply(row);
+                    if (value != null) {
+                        subscriber.onNext(value);
+                        published++;
+                    }
+                    if (published == requested && requested != Long.MAX_VALUE) {
+                        requested = demand.addAndGet(-published); // concurrent requests
+                        published = 0;
+                    }
+                }
+            } catch (Exception e) {
+                signalError(e);
+            }
+        }
+
+        private void signalError(Throwable error) {
+            if (!done) {
+                done = true;
+                try {
+                    subscriber.onError(error);
+                } catch (Exception e) {
+                    log.warn("Subscriber {} failed on error signal", subscriber, e);
+                }
+            }
+        }
+    }
+}
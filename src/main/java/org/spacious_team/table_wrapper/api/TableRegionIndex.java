@@ -0,0 +1,247 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.lang.Math.max;
+
+/**
+ * Immutable index of report page regions, answers which regions (tables) contain given cell, row or range.
+ * Regions are sorted by first row and stored as implicit balanced binary search tree, each subtree is augmented by
+ * maximum last row of its regions. Query takes O(log(n) + k) time, where n is number of indexed regions
+ * and k is number of found regions.
+ * <pre>
+ *     List&lt;Table&gt; tables = reportPage.createAll(specs);
+ *     TableRegionIndex&lt;Table&gt; index = TableRegionIndex.ofTables(tables);
+ *     Table table = index.find(TableCellAddress.of(row, column));
+ * </pre>
+ *
+ * @param <V> indexed value type
+ * @implSpec {@link TableCellRange#EMPTY_RANGE} regions are not indexed. Found values are returned
+ * in first row ascending order, values with equal first row are returned in indexing order.
+ */
+@ToString(of = "size")
+public final class TableRegionIndex<V> {
+
+    private final Object[] values;
+    private final int[] firstRows;
+    private final int[] lastRows;
+    private final int[] firstColumns;
+    private final int[] lastColumns;
+    /**
+     * Maximum last row of subtree, which root is at given index
+     */
+    private final int[] maxLastRows;
+    private final int size;
+
+    private TableRegionIndex(List<Region<V>> regions) {
+        this.size = regions.size();
+        this.values = new Object[size];
+        this.firstRows = new int[size];
+        this.lastRows = new int[size];
+        this.firstColumns = new int[size];
+        this.lastColumns = new int[size];
+        this.maxLastRows = new int[size];
+        for (int i = 0; i < size; i++) {
+            Region<V> region = regions.get(i);
+            values[i] = region.value;
+            firstRows[i] = region.range.getFirstRow();
+            lastRows[i] = region.range.getLastRow();
+            firstColumns[i] = region.range.getFirstColumn();
+            lastColumns[i] = region.range.getLastColumn();
+        }
+        computeMaxLastRows(0, size);
+    }
+
+    /**
+     * @param rangeExtractor returns region of value
+     */
+    public static <V> TableRegionIndex<V> of(Collection<? extends V> values,
+                                             Function<? super V, TableCellRange> rangeExtractor) {
+        List<Region<V>> regions = new ArrayList<>(values.size());
+        for (V value : values) {
+            TableCellRange range = rangeExtractor.apply(value);
+            if (range != TableCellRange.EMPTY_RANGE) {
+                regions.add(new Region<>(value, range));
+            }
+        }
+        regions.sort(Comparator.comparingInt(region -> region.range.getFirstRow())); // stable sort
+        return new TableRegionIndex<>(regions);
+    }
+
+    public static TableRegionIndex<TableCellRange> of(Collection<TableCellRange> ranges) {
+        return of(ranges, Function.identity());
+    }
+
+    /**
+     * Indexes tables by their ranges, which columns are narrowed by header description,
+     * so found table contains address. Table headers are resolved.
+     *
+     * @throws IllegalArgumentException if table range is unknown (table is not an {@link AbstractTable})
+     * @throws TableColumnNotFound      if table header can't be resolved
+     * @see AbstractTable#getTableRange()
+     */
+    public static <T extends Table> TableRegionIndex<T> ofTables(Collection<? extends T> tables) {
+        return of(tables, table -> getAbstractTable(table).getTableRange());
+    }
+
+    /**
+     * Indexes tables by their ranges, which columns are not narrowed by header description. Table headers are
+     * not resolved, so found table rows contain address, but table columns may not contain it.
+     *
+     * @throws IllegalArgumentException if table range is unknown (table is not an {@link AbstractTable})
+     */
+    public static <T extends Table> TableRegionIndex<T> ofTablesNotNarrowed(Collection<? extends T> tables) {
+        return of(tables, table -> getAbstractTable(table).getRawTableRange());
+    }
+
+    private static AbstractTable<?> getAbstractTable(Table table) {
+        if (table instanceof AbstractTable) {
+            return (AbstractTable<?>) table;
+        }
+        throw new IllegalArgumentException("Table range is unknown: " + table);
+    }
+
+    private int computeMaxLastRows(int from, int to) {
+        if (from >= to) {
+            return Integer.MIN_VALUE;
+        }
+        int mid = (from + to) >>> 1;
+        int maxLastRow = max(lastRows[mid], max(computeMaxLastRows(from, mid), computeMaxLastRows(mid + 1, to)));
+        maxLastRows[mid] = maxLastRow;
+        return maxLastRow;
+    }
+
+    /**
+     * @return number of indexed regions
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return first value, which region contains address, or null if not found
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable V find(TableCellAddress address) {
+        if (address == TableCellAddress.NOT_FOUND) {
+            return null;
+        }
+        int i = searchFirst(0, size, address.getRow(), address.getColumn());
+        if (i == -1) {
+            return null;
+        }
+        return (V) values[i];
+    }
+
+    /**
+     * @return values, which regions contain address
+     */
+    public List<V> findAll(TableCellAddress address) {
+        if (address == TableCellAddress.NOT_FOUND) {
+            return Collections.emptyList();
+        }
+        int column = address.getColumn();
+        return search(address.getRow(), address.getRow(), column, column);
+    }
+
+    /**
+     * @return values, which regions contain row
+     */
+    public List<V> findByRow(int row) {
+        return search(row, row, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return values, which regions have at least one common cell with range
+     */
+    public List<V> findOverlapping(TableCellRange range) {
+        if (range == TableCellRange.EMPTY_RANGE) {
+            return Collections.emptyList();
+        }
+        return search(range.getFirstRow(), range.getLastRow(), range.getFirstColumn(), range.getLastColumn());
+    }
+
+    private List<V> search(int firstRow, int lastRow, int firstColumn, int lastColumn) {
+        List<V> result = new ArrayList<>(0);
+        search(0, size, firstRow, lastRow, firstColumn, lastColumn, result);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void search(int from, int to, int firstRow, int lastRow, int firstColumn, int lastColumn, List<V> result) {
+        if (from >= to) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        if (maxLastRows[mid] < firstRow) {
+            return; // all subtree regions end before searched rows
+        }
+        search(from, mid, firstRow, lastRow, firstColumn, lastColumn, result);
+        if (firstRows[mid] > lastRow) {
+            return; // right subtree regions start after searched rows
+        }
+        if (lastRows[mid] >= firstRow && firstColumns[mid] <= lastColumn && lastColumns[mid] >= firstColumn) {
+            result.add((V) values[mid]);
+        }
+        search(mid + 1, to, firstRow, lastRow, firstColumn, lastColumn, result);
+    }
+
+    /**
+     * @return index of first region in first row ascending order, which contains cell, or -1
+     */
+    private int searchFirst(int from, int to, int row, int column) {
+        if (from >= to) {
+            return -1;
+        }
+        int mid = (from + to) >>> 1;
+        if (maxLastRows[mid] < row) {
+            return -1; // all subtree regions end before searched row
+        }
+        int found = searchFirst(from, mid, row, column);
+        if (found != -1) {
+            return found;
+        } else if (firstRows[mid] > row) {
+            return -1; // right subtree regions start after searched row
+        } else if (lastRows[mid] >= row && firstColumns[mid] <= column && lastColumns[mid] >= column) {
+            return mid;
+        }
+        return searchFirst(mid + 1, to, row, column);
+    }
+
+    @RequiredArgsConstructor
+    private static final class Region<V> {
+        private final V value;
+        private final TableCellRange range;
+    }
+}
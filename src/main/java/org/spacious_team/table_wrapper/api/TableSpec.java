@@ -0,0 +1,126 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.function.Predicate;
+
+import static org.spacious_team.table_wrapper.api.ReportPageHelper.getCellStringValueIgnoreCasePrefixPredicate;
+
+/**
+ * Table specification for {@link TableFactory#createAll(ReportPage, java.util.List)}. Table starts with row
+ * containing table name, followed by header rows, and ends with row containing last row cell
+ * or with row preceding empty row (or last row of report page), if last row finder is not provided.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class TableSpec<T extends Enum<T> & TableHeaderColumn> {
+
+    /**
+     * Predefined table name or null, if table name is read from report page
+     */
+    private final @Nullable String tableName;
+    private final Predicate<Object> tableNameFinder;
+    /**
+     * Last row finder or null, if table ends with empty row
+     */
+    private final @Nullable Predicate<Object> lastRowFinder;
+    private final Class<T> headerDescription;
+    private final int headersRowCount;
+
+    private TableSpec(@Nullable String tableName,
+                      Predicate<Object> tableNameFinder,
+                      @Nullable Predicate<Object> lastRowFinder,
+                      Class<T> headerDescription,
+                      int headersRowCount) {
+        this.tableName = tableName;
+        this.tableNameFinder = tableNameFinder;
+        this.lastRowFinder = lastRowFinder;
+        this.headerDescription = headerDescription;
+        this.headersRowCount = headersRowCount;
+    }
+
+    /**
+     * Same as {@link TableFactory#create(ReportPage, String, String, Class, int)} table
+     *
+     * @param tableName     table name's row should contain cell which starts with given text
+     * @param lastRowString table's last row should contain cell which starts with given text
+     */
+    public static <T extends Enum<T> & TableHeaderColumn>
+    TableSpec<T> of(String tableName, String lastRowString, Class<T> headerDescription, int headersRowCount) {
+        return new TableSpec<>(tableName, getPrefixPredicate(tableName),
+                getPrefixPredicate(lastRowString), headerDescription, headersRowCount);
+    }
+
+    /**
+     * Same as {@link TableFactory#create(ReportPage, String, Class, int)} table
+     *
+     * @param tableName table name's row should contain cell which starts with given text
+     */
+    public static <T extends Enum<T> & TableHeaderColumn>
+    TableSpec<T> of(String tableName, Class<T> headerDescription, int headersRowCount) {
+        return new TableSpec<>(tableName, getPrefixPredicate(tableName), null, headerDescription, headersRowCount);
+    }
+
+    /**
+     * Same as {@link TableFactory#create(ReportPage, Predicate, Predicate, Class, int)} table
+     *
+     * @param tableNameFinder table name containing row should contain cell satisfying predicate
+     * @param lastRowFinder   table's last row should contain cell satisfying predicate
+     */
+    public static <T extends Enum<T> & TableHeaderColumn>
+    TableSpec<T> of(Predicate<Object> tableNameFinder,
+                    Predicate<Object> lastRowFinder,
+                    Class<T> headerDescription,
+                    int headersRowCount) {
+        return new TableSpec<>(null, tableNameFinder, lastRowFinder, headerDescription, headersRowCount);
+    }
+
+    /**
+     * Same as {@link TableFactory#create(ReportPage, Predicate, Class, int)} table
+     *
+     * @param tableNameFinder table name containing row should contain cell satisfying predicate
+     */
+    public static <T extends Enum<T> & TableHeaderColumn>
+    TableSpec<T> of(Predicate<Object> tableNameFinder, Class<T> headerDescription, int headersRowCount) {
+        return new TableSpec<>(null, tableNameFinder, null, headerDescription, headersRowCount);
+    }
+
+    /**
+     * @return predicate, which never matches for empty prefix, as {@link ReportPage#getTableCellRange(String, int)} does
+     */
+    private static Predicate<Object> getPrefixPredicate(String prefix) {
+        return prefix.isEmpty() ? value -> false : getCellStringValueIgnoreCasePrefixPredicate(prefix);
+    }
+
+    /**
+     * Creates table for range by factory
+     */
+    Table create(TableFactory tableFactory, ReportPage reportPage, TableCellRange tableRange) {
+        String name = (tableName == null) ?
+                TableFactoryHelper.getTableName(reportPage, tableNameFinder, tableRange) :
+                tableName;
+        return tableFactory.create(reportPage, name, tableRange, headerDescription, headersRowCount);
+    }
+}
@@ -18,6 +18,8 @@
 
 package org.spacious_team.table_wrapper.api;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +27,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Map;
+
 import static nl.jqno.equalsverifier.Warning.STRICT_INHERITANCE;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
@@ -53,6 +57,30 @@ class AbstractTableFactoryTest {
         assertEquals(reportPage, factory.cast(reportPage));
     }
 
+    @Test
+    void decoratedReportPage() {
+        ReportPage decoratedPage = IndexedReportPage.of(IndexedReportPage.of(reportPage));
+        assertTrue(factory.canHandle(decoratedPage));
+        assertSame(reportPage, factory.cast(decoratedPage));
+        assertFalse(factory.canHandle(IndexedReportPage.of(new ArrayReportPage())));
+    }
+
+    @Test
+    void createWithResolvedHeaderDescription() {
+        ReportPage page = ColumnarReportPage.of(new ArrayReportPage(
+                new Object[]{"Table"},
+                new Object[]{"Name", "Name"},
+                new Object[]{"a", "b"}));
+        Map<TableColumn, Integer> resolvedHeaderDescription = Map.of(TableHeader.NAME.getColumn(), 1);
+
+        Table table = new ColumnarTableFactory().create(page, "Table", TableCellRange.of(0, 2, 0, 1),
+                TableHeader.class, 1, resolvedHeaderDescription);
+
+        assertSame(resolvedHeaderDescription, table.getHeaderDescription());
+        TableRow row = table.iterator().next();
+        assertEquals("b", row.getStringCellValue(TableHeader.NAME));
+    }
+
     @Test
     void testEqualsAndHashCode() {
         EqualsVerifier
@@ -66,6 +94,14 @@ class AbstractTableFactoryTest {
         assertTrue(factory.toString().startsWith("AbstractTableFactory(reportPageType="));
     }
 
+    @Getter
+    @RequiredArgsConstructor
+    enum TableHeader implements TableHeaderColumn {
+        NAME(PatternTableColumn.of("name"));
+
+        private final TableColumn column;
+    }
+
     static class TableFactoryTestImpl extends AbstractTableFactory<AbstractReportPage<ReportPageRow>> {
 
         protected TableFactoryTestImpl(Class<AbstractReportPage<ReportPageRow>> reportPageType) {
@@ -21,22 +21,28 @@ package org.spacious_team.table_wrapper.api;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import nl.jqno.equalsverifier.EqualsVerifier;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
@@ -137,6 +143,36 @@ class AbstractTableTest {
         assertFalse(table.isEmpty());
     }
 
+    @Test
+    void testLazyHeaderResolution() {
+        TableCellRange tableRange = TableCellRange.of(2, 6, 0, 100);
+        AbstractTable<EmptyTableRow> table = new TableTestImpl(report, "table name", tableRange, headerDescription, 2);
+        AbstractTable<EmptyTableRow> subTable = new TableTestImpl(table, -1, 0);
+
+        assertFalse(table.isEmpty());
+        assertFalse(subTable.isEmpty());
+        verifyNoInteractions(report);
+
+        when(report.getRow(3)).thenReturn(new EmptyTableRow(table, 3));
+        when(report.getRow(4)).thenReturn(new EmptyTableRow(table, 4));
+        assertEquals(TableCellRange.of(3, 6, 0, 1), subTable.getTableRange());
+        assertEquals(TableCellRange.of(2, 6, 0, 1), table.getTableRange());
+        assertSame(table.getHeaderDescription(), subTable.getHeaderDescription());
+        verify(report).getRow(3); // header is resolved once
+        verify(report).getRow(4);
+    }
+
+    @Test
+    void testConstantPositionHeaderResolution() {
+        TableCellRange tableRange = TableCellRange.of(2, 6, 0, 100);
+        AbstractTable<EmptyTableRow> table = new TableTestImpl(report, "table name", tableRange, ConstantColumns.class, 2);
+
+        assertEquals(Map.of(ConstantColumns.FIRST.getColumn(), 2, ConstantColumns.SECOND.getColumn(), 5),
+                table.getHeaderDescription());
+        assertEquals(TableCellRange.of(2, 6, 2, 5), table.getTableRange());
+        verifyNoInteractions(report);
+    }
+
     @Test
     void getData() {
         TableRow sourceRow = mock(TableRow.class);
@@ -212,14 +248,268 @@ class AbstractTableTest {
     @Test
     void stream() {
         TableRow row = mock(TableRow.class);
-        Iterator<TableRow> iterator = Arrays.asList(row, null).iterator();
-        when(table.iterator()).thenReturn(iterator);
+        Spliterator<TableRow> spliterator = Arrays.asList(row, null).spliterator();
+        when(table.spliterator()).thenReturn(spliterator);
 
         Stream<TableRow> stream = table.stream();
 
         assertEquals(Arrays.asList(row, null), stream.collect(Collectors.toList()));
     }
 
+    @Test
+    void spliterator() {
+        table = getNotEmptyTable();
+        //noinspection ConstantConditions
+        when(report.getRow(5)).thenReturn(new EmptyTableRow(table, 5));
+        // report.getRow(6) == null
+
+        Spliterator<TableRow> spliterator = table.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertEquals(2, spliterator.getExactSizeIfKnown());
+
+        Spliterator<TableRow> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(1, prefix.getExactSizeIfKnown());
+        assertEquals(1, spliterator.getExactSizeIfKnown());
+        assertNull(spliterator.trySplit());
+        assertTrue(prefix.tryAdvance(row -> {
+            assertEquals(MutableTableRow.class, row.getClass());
+            assertEquals(5, row.getRowNum());
+        }));
+        assertFalse(prefix.tryAdvance(row -> fail()));
+        spliterator.forEachRemaining(row -> {
+            assertEquals(EmptyTableRow.class, row.getClass());
+            assertEquals(6, row.getRowNum());
+        });
+        assertEquals(0, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    void parallelStream() {
+        AbstractTable<?> table = getColumnarTable();
+
+        //noinspection ConstantConditions
+        List<Integer> expected = table.stream()
+                .map(row -> row.getIntCellValue(Columns.FIRST) + row.getIntCellValue(Columns.SECOND))
+                .collect(Collectors.toList());
+        //noinspection ConstantConditions
+        List<Integer> actual = table.parallelStream()
+                .map(row -> row.getIntCellValue(Columns.FIRST) + row.getIntCellValue(Columns.SECOND))
+                .collect(Collectors.toList());
+
+        assertEquals(1000, expected.size());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void parallelGetData() {
+        AbstractTable<?> table = getColumnarTable();
+        Function<TableRow, Integer> rowExtractor = row -> {
+            int value = row.getIntCellValue(Columns.FIRST);
+            if (value % 7 == 0) {
+                throw new IllegalArgumentException("bad row");
+            }
+            return (value % 5 == 0) ? null : value;
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Integer> expected = table.getData("report", rowExtractor);
+            assertEquals(expected, table.getData("report", rowExtractor, executor));
+            assertEquals(IntStream.rangeClosed(2, 1001).filter(i -> i % 7 != 0 && i % 5 != 0).count(),
+                    expected.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void parallelGetDataWithMissingColumn() {
+        AbstractTable<?> table = getColumnarTable(MissingColumns.class);
+        Function<TableRow, Object> rowExtractor = row -> row.getCellValue(MissingColumns.MISSING);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertThrows(TableColumnNotFound.class, () -> table.getData("report", rowExtractor));
+            assertThrows(TableColumnNotFound.class, () -> table.getData("report", rowExtractor, executor));
+            assertThrows(TableColumnNotFound.class,
+                    () -> table.getDataCollection("report", row -> List.of(), i -> i, (a, b) -> a, executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void parallelGetDataWithFailedPartition() {
+        AbstractTable<?> table = getColumnarTable();
+        Function<TableRow, Object> rowExtractor = row -> {
+            throw new OutOfMemoryError("test");
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertThrows(OutOfMemoryError.class, () -> table.getData("report", rowExtractor, executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void parallelGetDataCollection() {
+        AbstractTable<?> table = getColumnarTable();
+        Function<TableRow, @Nullable Collection<Integer>> rowExtractor = row -> {
+            int value = row.getIntCellValue(Columns.FIRST);
+            return (value % 3 == 0) ? null : List.of(value, -value);
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertEquals(table.getDataCollection("report", rowExtractor),
+                    table.getDataCollection("report", rowExtractor, executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void parallelGetDataCollectionWithDuplicatesMerging() {
+        AbstractTable<?> table = getColumnarTable();
+        Function<TableRow, @Nullable Collection<Integer>> rowExtractor =
+                row -> List.of(row.getIntCellValue(Columns.FIRST) % 10);
+        BiPredicate<Integer, Integer> equalityChecker = Integer::equals;
+        BiFunction<Integer, Integer, @Nullable Collection<Integer>> mergeDuplicates = (a, b) -> {
+            if (a == 3) {
+                throw new IllegalArgumentException("can't merge");
+            }
+            return List.of(a + b * 10);
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Integer> expected = table.getDataCollection("report", rowExtractor, equalityChecker, mergeDuplicates);
+            assertEquals(expected, table.getDataCollection(
+                    "report", rowExtractor, equalityChecker, mergeDuplicates, executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void getDataCollectionWithKeyedDuplicatesMerging() {
+        AbstractTable<?> table = getColumnarTable();
+        Function<TableRow, @Nullable Collection<Integer>> rowExtractor = row -> {
+            int value = row.getIntCellValue(Columns.FIRST);
+            if (value == 15) {
+                throw new IllegalArgumentException("bad row");
+            }
+            return List.of(value, value + 1);
+        };
+
+        List<Integer> data = table.getDataCollection("report", rowExtractor, i -> i % 10, Integer::sum);
+
+        int[] expected = new int[10];
+        for (int i = 2; i <= 1001; i++) {
+            if (i != 15) {
+                expected[i % 10] += i;
+                expected[(i + 1) % 10] += i + 1;
+            }
+        }
+        // first seen order: keys 2, 3, ..., 9, 0, 1
+        List<Integer> expectedData = IntStream.range(0, 10)
+                .map(i -> expected[(i + 2) % 10])
+                .boxed()
+                .collect(Collectors.toList());
+        assertEquals(expectedData, data);
+    }
+
+    @Test
+    void getDataCollectionWithKeyedDuplicatesRemoval() {
+        AbstractTable<?> table = getColumnarTable();
+        Function<TableRow, @Nullable Collection<Integer>> rowExtractor =
+                row -> List.of(row.getIntCellValue(Columns.FIRST));
+
+        // values 2 and 3 are duplicates
+        List<Integer> data = table.getDataCollection("report", rowExtractor, i -> Math.max(i, 3), (a, b) -> null);
+
+        assertEquals(998, data.size());
+        assertEquals(4, data.get(0));
+    }
+
+    @Test
+    void parallelGetDataCollectionWithKeyedDuplicatesMerging() {
+        AbstractTable<?> table = getColumnarTable();
+        Function<TableRow, @Nullable Collection<Integer>> rowExtractor = row -> {
+            int value = row.getIntCellValue(Columns.FIRST);
+            if (value % 7 == 0) {
+                throw new IllegalArgumentException("bad row");
+            }
+            return List.of(value);
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Integer> expected = table.getDataCollection("report", rowExtractor, i -> i % 13, Integer::sum);
+            assertEquals(expected, table.getDataCollection(
+                    "report", rowExtractor, i -> i % 13, Integer::sum, executor));
+            assertEquals(13, expected.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void forEachData() {
+        AbstractTable<?> table = getColumnarTable();
+        Function<TableRow, @Nullable Integer> rowExtractor = row -> {
+            int value = row.getIntCellValue(Columns.FIRST);
+            if (value % 7 == 0) {
+                throw new IllegalArgumentException("bad row");
+            }
+            return (value % 5 == 0) ? null : value;
+        };
+        List<Integer> data = new ArrayList<>();
+
+        table.forEachData("report", rowExtractor, data::add);
+
+        assertEquals(table.getData("report", rowExtractor), data);
+    }
+
+    @Test
+    void parallelGetDataCollectionWithKeyedDuplicatesRemoval() {
+        AbstractTable<?> table = getColumnarTable();
+        Function<TableRow, @Nullable Collection<Integer>> rowExtractor =
+                row -> List.of(row.getIntCellValue(Columns.FIRST));
+        // keys are repeated across partitions, null merge result removes key, next key occurrence is added to the end
+        Function<Integer, Integer> keyExtractor = i -> i % 7;
+        BiFunction<Integer, Integer, @Nullable Integer> mergeDuplicates = (a, b) -> {
+            if (b % 11 == 0) {
+                throw new IllegalArgumentException("can't merge");
+            }
+            return (b % 2 == 0) ? null : a + b;
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Integer> expected = table.getDataCollection("report", rowExtractor, keyExtractor, mergeDuplicates);
+            assertEquals(expected, table.getDataCollection(
+                    "report", rowExtractor, keyExtractor, mergeDuplicates, executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * @return table of 1000 data rows, first column values are 2, 3, ..., 1001, second column values are doubled
+     */
+    private static AbstractTable<?> getColumnarTable() {
+        return getColumnarTable(Columns.class);
+    }
+
+    private static <T extends Enum<T> & TableHeaderColumn>
+    AbstractTable<?> getColumnarTable(Class<T> headerDescription) {
+        Object[][] rows = new Object[1002][];
+        rows[0] = new Object[]{"Table"};
+        rows[1] = new Object[]{"first", "second"};
+        for (int i = 2; i < rows.length; i++) {
+            rows[i] = new Object[]{i, i * 2};
+        }
+        ColumnarReportPage page = ColumnarReportPage.of(new ArrayReportPage(rows));
+        return (AbstractTable<?>) new ColumnarTableFactory().create(page, "Table", headerDescription);
+    }
+
     @Test
     void iterator() {
         Iterator<TableRow> iterator = table.iterator();
@@ -282,13 +572,35 @@ class AbstractTableTest {
 
     @Test
     void findRowNotFound() {
-        when(tableRange.contains(any())).thenReturn(false);
+        when(report.find("row value")).thenReturn(TableCellAddress.NOT_FOUND);
+        assertNull(table.findRow("row value"));
+        verify(tableRange, never()).containsRow(anyInt());
+        verify(tableRange, never()).contains(any());
+    }
+
+    @Test
+    void findRowOutsideTableRows() {
+        when(report.find("row value")).thenReturn(TableCellAddress.of(1, 0));
+        when(tableRange.containsRow(1)).thenReturn(false);
+        assertNull(table.findRow("row value"));
+        verify(tableRange, never()).contains(any());
+    }
+
+    @Test
+    void findRowOutsideTableColumns() {
+        TableCellAddress address = TableCellAddress.of(1, 0);
+        when(report.find("row value")).thenReturn(address);
+        when(tableRange.containsRow(1)).thenReturn(true);
+        when(tableRange.contains(address)).thenReturn(false);
         assertNull(table.findRow("row value"));
     }
 
     @Test
     void findRowFoundEmptyRow() {
-        when(tableRange.contains(any())).thenReturn(true);
+        TableCellAddress address = TableCellAddress.of(1, 0);
+        when(report.find("row value")).thenReturn(address);
+        when(tableRange.containsRow(1)).thenReturn(true);
+        when(tableRange.contains(address)).thenReturn(true);
         assertThrows(NullPointerException.class, () -> table.findRow("row value"));
     }
 
@@ -300,6 +612,7 @@ class AbstractTableTest {
         MutableTableRow<EmptyTableRow> mutableRow = new MutableTableRow<>(table, dao);
         mutableRow.setRow(row);
         when(report.find("row value")).thenReturn(address);
+        when(tableRange.containsRow(address.getRow())).thenReturn(true);
         when(tableRange.contains(address)).thenReturn(true);
         when(table.getRow(address.getRow())).thenReturn(row);
 
@@ -324,6 +637,7 @@ class AbstractTableTest {
         EqualsVerifier
                 .forClass(AbstractTable.class)
                 .suppress(STRICT_INHERITANCE) // no subclass for test
+                .withIgnoredFields("header") // defined by other fields
                 .verify();
     }
 
@@ -366,4 +680,20 @@ class AbstractTableTest {
         NOT_FOUND(OptionalTableColumn.of(NOCOLUMN));
         private final TableColumn column;
     }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum MissingColumns implements TableHeaderColumn {
+        FIRST(PatternTableColumn.of("first")),
+        MISSING(PatternTableColumn.of("missing"));
+        private final TableColumn column;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum ConstantColumns implements TableHeaderColumn {
+        FIRST(ConstantPositionTableColumn.of(2)),
+        SECOND(ConstantPositionTableColumn.of(5));
+        private final TableColumn column;
+    }
 }
\ No newline at end of file
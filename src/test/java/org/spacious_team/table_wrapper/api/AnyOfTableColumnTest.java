@@ -46,6 +46,15 @@ class AnyOfTableColumnTest {
         assertThrows(TableColumnNotFound.class, () -> column3.getColumnIndex(10));
     }
 
+    @Test
+    void findColumnIndex() {
+        TableColumn column1 = AnyOfTableColumn.of(NOT_FOUND, LEFTMOST_COLUMN);
+        TableColumn column2 = AnyOfTableColumn.of(NOT_FOUND, NOT_FOUND);
+
+        assertEquals(10, column1.findColumnIndex(10));
+        assertEquals(TableColumn.NOT_FOUND, column2.findColumnIndex(10));
+    }
+
     @Test
     void testEqualsAndHashCode() {
         EqualsVerifier
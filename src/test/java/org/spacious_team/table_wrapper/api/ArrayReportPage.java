@@ -0,0 +1,152 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import static java.lang.Math.min;
+
+/**
+ * Test report page backed by array of rows, null row or null cell value means absent row or cell.
+ */
+@SuppressWarnings("nullness")
+class ArrayReportPage extends AbstractReportPage<ArrayReportPage.ArrayReportPageRow> {
+
+    private final ArrayReportPageRow[] rows;
+
+    ArrayReportPage(Object[]... rows) {
+        this.rows = new ArrayReportPageRow[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            this.rows[i] = (rows[i] == null) ? null : new ArrayReportPageRow(i, rows[i]);
+        }
+    }
+
+    @Override
+    public TableCellAddress find(Object value, int startRow, int endRow, int startColumn, int endColumn) {
+        return find(startRow, endRow, startColumn, endColumn, cellValue -> Objects.equals(cellValue, value));
+    }
+
+    @Override
+    public TableCellAddress find(int startRow, int endRow, int startColumn, int endColumn,
+                                 Predicate<Object> cellValuePredicate) {
+        for (int i = Math.max(0, startRow), n = min(endRow, rows.length); i < n; i++) {
+            ArrayReportPageRow row = rows[i];
+            if (row != null) {
+                for (TableCell cell : row) {
+                    int column = cell.getColumnIndex();
+                    if (startColumn <= column && column < endColumn && cellValuePredicate.test(cell.getValue())) {
+                        return TableCellAddress.of(i, column);
+                    }
+                }
+            }
+        }
+        return TableCellAddress.NOT_FOUND;
+    }
+
+    @Override
+    public @Nullable ArrayReportPageRow getRow(int i) {
+        return (i >= 0 && i < rows.length) ? rows[i] : null;
+    }
+
+    @Override
+    public int getLastRowNum() {
+        return rows.length - 1;
+    }
+
+    /**
+     * @return forward-only view of this page
+     */
+    StreamingReportPage stream() {
+        return new StreamingReportPage() {
+            private int i = 0;
+
+            @Override
+            public ArrayReportPageRow nextRow() {
+                while (i < rows.length) {
+                    ArrayReportPageRow row = rows[i++];
+                    if (row != null) {
+                        return row;
+                    }
+                }
+                return null;
+            }
+        };
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static class ArrayReportPageRow extends AbstractReportPageRow {
+        private final int rowNum;
+        private final Object[] values;
+
+        @Override
+        public @Nullable TableCell getCell(int i) {
+            return (i >= 0 && i < values.length && values[i] != null) ? ReportPageRowHelper.cell(values[i], i) : null;
+        }
+
+        @Override
+        public int getFirstCellNum() {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int getLastCellNum() {
+            for (int i = values.length - 1; i >= 0; i--) {
+                if (values[i] != null) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean rowContains(Object expected) {
+            for (Object value : values) {
+                if (Objects.equals(value, expected)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Iterator<@Nullable TableCell> iterator() {
+            List<TableCell> cells = new ArrayList<>();
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    cells.add(ReportPageRowHelper.cell(values[i], i));
+                }
+            }
+            return cells.iterator();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ColumnHandleTest {
+
+    final Instant instant = Instant.parse("2022-01-02T03:04:05Z");
+    final ColumnarReportPage page = ColumnarReportPage.of(new ArrayReportPage(
+            new Object[]{"Table 1"},
+            new Object[]{"Name", "Count", "Price", "Date"},
+            new Object[]{"a", 2, 1.5, instant},
+            new Object[]{"b", 3L, "10", instant.toString()},
+            new Object[]{"c", null, null, null}));
+    final Table table = new ColumnarTableFactory().create(page, "Table 1", TableHeader.class);
+
+    @Test
+    void readValues() {
+        ColumnHandle name = table.column(TableHeader.NAME);
+        ColumnHandle count = table.column(TableHeader.COUNT);
+        ColumnHandle price = table.column(TableHeader.PRICE);
+        ColumnHandle date = table.column(TableHeader.DATE);
+
+        assertEquals(List.of("a:2:2:1.5:1.5", "b:3:3:10.0:10"), table.getData("report", row ->
+                name.getString(row) + ":" +
+                        count.getInt(row) + ":" +
+                        count.getLong(row) + ":" +
+                        price.getDouble(row) + ":" +
+                        price.getBigDecimal(row)));
+        assertEquals(List.of(instant, instant), table.getData("report", date::getInstant));
+        assertEquals(List.of(LocalDateTime.ofInstant(instant, ZoneId.systemDefault())),
+                table.getData("report", row -> (row.getRowNum() == 2) ? date.getLocalDateTime(row) : null));
+        assertEquals(List.of("a", 2, 1.5, instant), table.getData("report", row ->
+                (row.getRowNum() == 2) ? List.of(name.getValue(row), count.getValue(row),
+                        price.getValue(row), date.getValue(row)) : null).get(0));
+    }
+
+    @Test
+    void readSameValuesAsTableRow() {
+        ColumnHandle count = table.column(TableHeader.COUNT);
+        table.stream()
+                .filter(row -> row != null && row.getCellValue(TableHeader.COUNT) != null)
+                .forEach(row -> {
+                    assertEquals(row.getLongCellValue(TableHeader.COUNT), count.getLong(row));
+                    assertEquals(row.getStringCellValue(TableHeader.COUNT), count.getString(row));
+                });
+    }
+
+    @Test
+    void emptyCell() {
+        ColumnHandle count = table.column(TableHeader.COUNT);
+        TableRow row = table.findRow("c");
+        assertNotNull(row);
+
+        assertNull(count.getValue(row));
+        assertThrows(NullPointerException.class, () -> count.getLong(row));
+    }
+
+    @Test
+    void emptyRow() {
+        ColumnarReportPage page = ColumnarReportPage.of(new ArrayReportPage(
+                new Object[]{"Table 1"},
+                new Object[]{"Name", "Count", "Price", "Date"},
+                null,
+                new Object[]{"a", 1},
+                new Object[]{"Total"}));
+        Table table = new ColumnarTableFactory().create(page, "Table 1", "Total", TableHeader.class);
+        ColumnHandle count = table.column(TableHeader.COUNT);
+        TableRow emptyRow = table.iterator().next();
+
+        assertNull(count.getValue(emptyRow));
+        assertThrows(NullPointerException.class, () -> count.getInt(emptyRow));
+    }
+
+    @Test
+    void absentColumn() {
+        ColumnHandle handle = table.column(TableHeader.ABSENT);
+        TableRow row = table.findRow("a");
+        assertNotNull(row);
+
+        assertFalse(handle.isPresent());
+        assertEquals(ColumnIndices.NOT_FOUND, handle.getCellIndex());
+        assertThrows(NullPointerException.class, () -> handle.getValue(row));
+        assertThrows(NullPointerException.class, () -> handle.getString(row));
+        assertTrue(table.column(TableHeader.NAME).isPresent());
+        assertEquals(0, table.column(TableHeader.NAME).getCellIndex());
+    }
+
+    @Test
+    void readRowOfOtherTable() {
+        TableRow row = mock(TableRow.class);
+        TableCell cell = mock(TableCell.class);
+        when(row.getCell(1)).thenReturn(cell);
+        when(cell.getLongValue()).thenReturn(5L);
+        when(cell.getValue()).thenReturn(5L);
+
+        ColumnHandle handle = table.column(TableHeader.COUNT);
+
+        assertEquals(5L, handle.getLong(row));
+        assertEquals(5L, handle.getValue(row));
+        assertThrows(NullPointerException.class, () -> table.column(TableHeader.NAME).getString(row));
+    }
+
+    @Test
+    void defaultTableColumnHandle() {
+        Table table = mock(Table.class, CALLS_REAL_METHODS);
+        doReturn(Map.of(TableHeader.COUNT.getColumn(), 1)).when(table).getHeaderDescription();
+        TableRow row = mock(TableRow.class);
+        TableCell cell = mock(TableCell.class);
+        when(row.getCell(1)).thenReturn(cell);
+        when(cell.getIntValue()).thenReturn(5);
+
+        assertEquals(5, table.column(TableHeader.COUNT).getInt(row));
+        assertFalse(table.column(TableHeader.NAME).isPresent());
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("ColumnHandle(column=COUNT, cellIndex=1)", table.column(TableHeader.COUNT).toString());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum TableHeader implements TableHeaderColumn {
+        NAME(PatternTableColumn.of("name")),
+        COUNT(PatternTableColumn.of("count")),
+        PRICE(PatternTableColumn.of("price")),
+        DATE(PatternTableColumn.of("date")),
+        ABSENT(OptionalTableColumn.of(PatternTableColumn.of("absent")));
+
+        private final TableColumn column;
+    }
+}
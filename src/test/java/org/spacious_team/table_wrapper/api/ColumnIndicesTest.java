@@ -0,0 +1,79 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.spacious_team.table_wrapper.api.ColumnIndices.NOT_FOUND;
+
+class ColumnIndicesTest {
+
+    static final TableColumn FIRST_COLUMN = PatternTableColumn.of("first");
+    static final TableColumn SECOND_COLUMN = PatternTableColumn.of("second");
+    static final TableColumn THIRD_COLUMN = PatternTableColumn.of("third");
+
+    final ColumnIndices columnIndices = ColumnIndices.of(
+            Map.of(FIRST_COLUMN, 3, SECOND_COLUMN, 0),
+            TableHeader.class);
+
+    @Test
+    void getColumnIndex() {
+        assertEquals(3, columnIndices.getColumnIndex(TableHeader.FIRST));
+        assertEquals(0, columnIndices.getColumnIndex(TableHeader.SECOND));
+        assertEquals(3, columnIndices.getColumnIndex(TableHeader.FIRST_DUPLICATE));
+        assertEquals(NOT_FOUND, columnIndices.getColumnIndex(TableHeader.THIRD));
+    }
+
+    @Test
+    void getColumnIndexOfOtherEnum() {
+        assertEquals(0, columnIndices.getColumnIndex(OtherTableHeader.SECOND));
+        assertEquals(NOT_FOUND, columnIndices.getColumnIndex(OtherTableHeader.THIRD));
+        assertEquals(3, columnIndices.getColumnIndex(() -> FIRST_COLUMN));
+    }
+
+    @Test
+    void empty() {
+        assertEquals(NOT_FOUND, ColumnIndices.EMPTY.getColumnIndex(TableHeader.FIRST));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum TableHeader implements TableHeaderColumn {
+        FIRST(FIRST_COLUMN),
+        SECOND(SECOND_COLUMN),
+        THIRD(THIRD_COLUMN),
+        FIRST_DUPLICATE(FIRST_COLUMN);
+
+        private final TableColumn column;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum OtherTableHeader implements TableHeaderColumn {
+        THIRD(THIRD_COLUMN),
+        SECOND(SECOND_COLUMN);
+
+        private final TableColumn column;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static nl.jqno.equalsverifier.Warning.STRICT_INHERITANCE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarCellDataAccessObjectTest {
+
+    static final Instant instant = Instant.parse("2000-02-01T00:00:00Z");
+    ColumnarCellDataAccessObject dao;
+    ColumnarReportPageRow row;
+
+    @BeforeEach
+    void setUp() {
+        dao = new ColumnarCellDataAccessObject(InstantParser.builder().defaultZoneId(ZoneOffset.UTC).build());
+        ArrayReportPage page = new ArrayReportPage(new Object[]{
+                instant,
+                instant.atZone(ZoneOffset.UTC),
+                LocalDateTime.ofInstant(instant, ZoneId.systemDefault()),
+                LocalDate.ofInstant(instant, ZoneId.systemDefault()),
+                Date.from(instant),
+                "2000-02-01",
+                " 1 000 ",
+                1.5,
+                true});
+        row = ColumnarReportPage.of(page, dao).getRow(0);
+    }
+
+    @Test
+    void getInstantValue() {
+        for (int i = 0; i < 6; i++) {
+            assertEquals(instant, dao.getInstantValue(row, i), "column " + i);
+        }
+        assertThrows(RuntimeException.class, () -> dao.getInstantValue(row, 7));
+        assertThrows(RuntimeException.class, () -> dao.getInstantValue(row, 100));
+    }
+
+    @Test
+    void getValue() {
+        assertEquals(1.5, dao.getValue(row, 7));
+        assertEquals(true, dao.getValue(row, 8));
+        assertNull(dao.getValue(row, 100));
+        assertNull(dao.getCell(row, 100));
+    }
+
+    @Test
+    void getNumberValue() {
+        assertEquals(1000, dao.getIntValue(row, 6));
+        assertEquals(1000.0, dao.getDoubleValue(row, 6));
+        assertEquals(1, dao.getLongValue(row, 7));
+        assertEquals(1.5, dao.getDoubleValue(row, 7));
+        assertEquals("1.5", dao.getStringValue(row, 7));
+        assertEquals(" 1 000 ", dao.getStringValue(row, 6));
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        EqualsVerifier
+                .forClass(ColumnarCellDataAccessObject.class)
+                .suppress(STRICT_INHERITANCE) // no subclass for test
+                .verify();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.api.TableCellAddress.NOT_FOUND;
+
+class ColumnarReportPageTest {
+
+    static final Instant instant = Instant.parse("2000-02-01T10:00:00Z");
+    ArrayReportPage page;
+    ColumnarReportPage columnarPage;
+
+    @BeforeEach
+    void setUp() {
+        page = new ArrayReportPage(
+                new Object[]{"Table 1", null, 1},
+                new Object[]{null, "Name", "Count", "Price", "Date"},
+                new Object[]{null, "a", 2, 1.5, instant},
+                new Object[]{null, "b", 3L, BigDecimal.TEN, "2000-02-01T10:00:00Z"},
+                new Object[]{"", null, ""},
+                null,
+                new Object[]{"Total", "a"});
+        columnarPage = ColumnarReportPage.of(page);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TableFactoryRegistry.remove(new ColumnarTableFactory());
+    }
+
+    @Test
+    void findSameAsReportPage() {
+        Object[] values = {"Table 1", "a", "b", "Total", "c", 1, 1L, 2, 3L, 3, 1.5, BigDecimal.TEN, instant, ""};
+        for (Object value : values) {
+            for (int startRow = -1; startRow < 8; startRow++) {
+                for (int startColumn = 0; startColumn < 5; startColumn++) {
+                    assertEquals(
+                            page.find(value, startRow, 7, startColumn, 4),
+                            columnarPage.find(value, startRow, 7, startColumn, 4),
+                            () -> "value " + value);
+                }
+            }
+        }
+    }
+
+    @Test
+    void findByPredicate() {
+        Predicate<Object> predicate = v -> v instanceof Number;
+        assertEquals(TableCellAddress.of(0, 2), columnarPage.find(predicate));
+        assertEquals(TableCellAddress.of(2, 2), columnarPage.find(1, predicate));
+        assertEquals(TableCellAddress.of(2, 3), columnarPage.find(1, 7, 3, 5, predicate));
+        assertEquals(NOT_FOUND, columnarPage.find(4, predicate));
+        assertEquals(TableCellAddress.of(6, 0), columnarPage.findByPrefix("tot"));
+    }
+
+    @Test
+    void findEmptyRowSameAsReportPage() {
+        for (int startRow = -1; startRow < 9; startRow++) {
+            assertEquals(page.findEmptyRow(startRow), columnarPage.findEmptyRow(startRow));
+        }
+    }
+
+    @Test
+    void getRow() {
+        assertNull(columnarPage.getRow(5));
+        assertNull(columnarPage.getRow(-1));
+        assertNull(columnarPage.getRow(7));
+        assertEquals(6, columnarPage.getLastRowNum());
+
+        ColumnarReportPageRow row = columnarPage.getRow(2);
+        assertNotNull(row);
+        assertEquals(2, row.getRowNum());
+        assertEquals(1, row.getFirstCellNum());
+        assertEquals(4, row.getLastCellNum());
+        assertTrue(row.rowContains(2));
+        assertTrue(row.rowContains("a"));
+        assertFalse(row.rowContains(2L));
+        assertFalse(row.rowContains("b"));
+        assertNull(row.getCell(0));
+        assertNull(row.getCell(100));
+
+        List<Object> values = new ArrayList<>();
+        List<Integer> columns = new ArrayList<>();
+        for (TableCell cell : row) {
+            values.add(cell.getValue());
+            columns.add(cell.getColumnIndex());
+        }
+        assertEquals(List.of("a", 2, 1.5, instant), values);
+        assertEquals(List.of(1, 2, 3, 4), columns);
+    }
+
+    @Test
+    void getCellValues() {
+        ColumnarReportPageRow rowA = columnarPage.getRow(2);
+        ColumnarReportPageRow rowB = columnarPage.getRow(3);
+        assertNotNull(rowA);
+        assertNotNull(rowB);
+        assertEquals("a", rowA.getCell(1).getStringValue());
+        assertEquals(2, rowA.getCell(2).getIntValue());
+        assertEquals(2.0, rowA.getCell(2).getDoubleValue());
+        assertEquals(1.5, rowA.getCell(3).getDoubleValue());
+        assertEquals(instant, rowA.getCell(4).getInstantValue());
+        assertEquals(3L, rowB.getCell(2).getValue());
+        assertEquals(3L, rowB.getCell(2).getLongValue());
+        assertEquals(BigDecimal.TEN, rowB.getCell(3).getBigDecimalValue());
+        assertEquals(10, rowB.getCell(3).getIntValue());
+        assertEquals(instant, rowB.getCell(4).getInstantValue());
+        assertThrows(RuntimeException.class, () -> rowA.getCell(1).getInstantValue());
+    }
+
+    @Test
+    void createTable() {
+        TableFactoryRegistry.add(new ColumnarTableFactory());
+        Table table = IndexedReportPage.of(columnarPage).create("Table 1", TableHeader.class);
+
+        assertEquals(ColumnarTable.class, table.getClass());
+        assertEquals(List.of("a:2:1.5", "b:3:10"), table.getData("report", row ->
+                row.getStringCellValue(TableHeader.NAME) + ":" +
+                        row.getIntCellValue(TableHeader.COUNT) + ":" +
+                        row.getBigDecimalCellValue(TableHeader.PRICE)));
+        assertEquals(List.of(instant, instant), table.getData("report", row -> row.getInstantCellValue(TableHeader.DATE)));
+        assertEquals(1, table.subTable(0, -1).getData("report", row -> row).size());
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("ColumnarReportPage(lastRowNum=6)", columnarPage.toString());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum TableHeader implements TableHeaderColumn {
+        NAME(PatternTableColumn.of("name")),
+        COUNT(PatternTableColumn.of("count")),
+        PRICE(PatternTableColumn.of("price")),
+        DATE(PatternTableColumn.of("date"));
+
+        private final TableColumn column;
+    }
+}
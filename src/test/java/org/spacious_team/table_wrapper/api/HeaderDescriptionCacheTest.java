@@ -0,0 +1,230 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeaderDescriptionCacheTest {
+
+    static final AtomicInteger resolveCount = new AtomicInteger();
+    static volatile int countingColumnIndex = 1;
+
+    ArrayReportPage page = new ArrayReportPage(
+            new Object[]{"Name", "Count"},
+            new Object[]{"Name", "Count"},
+            new Object[]{"Count", "Name"},
+            new Object[]{"Name", "Count", "Other"},
+            new Object[]{"Name", 1.0});
+
+    @BeforeEach
+    void setUp() {
+        resolveCount.set(0);
+        countingColumnIndex = 1;
+    }
+
+    @AfterEach
+    void tearDown() {
+        HeaderDescriptionCache.setDefault(null);
+    }
+
+    @Test
+    void getHeaderDescription() {
+        HeaderDescriptionCache cache = HeaderDescriptionCache.of(10);
+
+        Map<TableColumn, Integer> description = cache.getHeaderDescription(rows(0), TableHeader.class);
+        assertEquals(Map.of(TableHeader.NAME.getColumn(), 0, TableHeader.COUNT.getColumn(), 1), description);
+        assertSame(description, cache.getHeaderDescription(rows(1), TableHeader.class));
+        assertEquals(Map.of(TableHeader.NAME.getColumn(), 1, TableHeader.COUNT.getColumn(), 0),
+                cache.getHeaderDescription(rows(2), TableHeader.class));
+        assertNotSame(description, cache.getHeaderDescription(rows(3), TableHeader.class));
+        assertNotSame(description, cache.getHeaderDescription(rows(0, 1), TableHeader.class));
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    void cellValueTypeIsKeyPart() {
+        HeaderDescriptionCache cache = HeaderDescriptionCache.of(10);
+        ArrayReportPage page = new ArrayReportPage(new Object[]{"Name", "1"}, new Object[]{"Name", 1});
+
+        cache.getHeaderDescription(new ReportPageRow[]{page.getRow(0)}, CountingTableHeader.class);
+        cache.getHeaderDescription(new ReportPageRow[]{page.getRow(1)}, CountingTableHeader.class);
+
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void headerEnumIsKeyPart() {
+        HeaderDescriptionCache cache = HeaderDescriptionCache.of(10);
+
+        cache.getHeaderDescription(rows(0), TableHeader.class);
+        cache.getHeaderDescription(rows(0), CountingTableHeader.class);
+
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void resolveOnce() {
+        HeaderDescriptionCache cache = HeaderDescriptionCache.of(10);
+
+        cache.getHeaderDescription(rows(0), CountingTableHeader.class);
+        cache.getHeaderDescription(rows(1), CountingTableHeader.class);
+
+        assertEquals(1, resolveCount.get());
+    }
+
+    @Test
+    void evictLeastRecentlyUsed() {
+        HeaderDescriptionCache cache = HeaderDescriptionCache.of(2);
+
+        cache.getHeaderDescription(rows(0), CountingTableHeader.class);
+        cache.getHeaderDescription(rows(2), CountingTableHeader.class);
+        cache.getHeaderDescription(rows(0), CountingTableHeader.class);
+        cache.getHeaderDescription(rows(3), CountingTableHeader.class); // evicts rows(2)
+        assertEquals(3, resolveCount.get());
+        cache.getHeaderDescription(rows(0), CountingTableHeader.class);
+        assertEquals(3, resolveCount.get());
+        cache.getHeaderDescription(rows(2), CountingTableHeader.class);
+        assertEquals(4, resolveCount.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void verifyOnHit() {
+        HeaderDescriptionCache cache = HeaderDescriptionCache.of(10, true);
+
+        Map<TableColumn, Integer> description = cache.getHeaderDescription(rows(0), CountingTableHeader.class);
+        assertSame(description, cache.getHeaderDescription(rows(0), CountingTableHeader.class));
+        assertEquals(2, resolveCount.get());
+
+        countingColumnIndex = 5; // header description depends on not cell value
+        assertEquals(Map.of(CountingTableHeader.COLUMN.getColumn(), 5),
+                cache.getHeaderDescription(rows(0), CountingTableHeader.class));
+        countingColumnIndex = 1;
+        assertEquals(Map.of(CountingTableHeader.COLUMN.getColumn(), 1),
+                cache.getHeaderDescription(rows(0), CountingTableHeader.class));
+        assertEquals(3, cache.getHitCount());
+    }
+
+    @Test
+    void notFoundIsNotCached() {
+        HeaderDescriptionCache cache = HeaderDescriptionCache.of(10);
+        ReportPageRow[] rows = {page.getRow(4)};
+
+        assertThrows(TableColumnNotFound.class, () -> cache.getHeaderDescription(rows, TableHeader.class));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void findHeaderDescription() {
+        HeaderDescriptionCache cache = HeaderDescriptionCache.of(10);
+
+        Map<TableColumn, Integer> description = cache.getHeaderDescription(rows(0), TableHeader.class);
+        assertSame(description, cache.findHeaderDescription(rows(1), TableHeader.class));
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void notMatchedIsCachedByFind() {
+        HeaderDescriptionCache cache = HeaderDescriptionCache.of(10);
+        ReportPageRow[] rows = {page.getRow(4)};
+
+        assertNull(cache.findHeaderDescription(rows, TableHeader.class));
+        assertNull(cache.findHeaderDescription(rows, TableHeader.class));
+        assertThrows(TableColumnNotFound.class, () -> cache.getHeaderDescription(rows, TableHeader.class));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void defaultCache() {
+        assertNull(HeaderDescriptionCache.getDefault());
+        AbstractTable.getHeaderDescription(rows(0), CountingTableHeader.class);
+        AbstractTable.getHeaderDescription(rows(0), CountingTableHeader.class);
+        assertEquals(2, resolveCount.get());
+
+        HeaderDescriptionCache cache = HeaderDescriptionCache.of(10);
+        HeaderDescriptionCache.setDefault(cache);
+        assertSame(cache, HeaderDescriptionCache.getDefault());
+        AbstractTable.getHeaderDescription(rows(0), CountingTableHeader.class);
+        AbstractTable.getHeaderDescription(rows(0), CountingTableHeader.class);
+        assertEquals(3, resolveCount.get());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void clear() {
+        HeaderDescriptionCache cache = HeaderDescriptionCache.of(10);
+        cache.getHeaderDescription(rows(0), TableHeader.class);
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void illegalSize() {
+        assertThrows(IllegalArgumentException.class, () -> HeaderDescriptionCache.of(0));
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("HeaderDescriptionCache(maxSize=10, verifyOnHit=false)", HeaderDescriptionCache.of(10).toString());
+    }
+
+    private ReportPageRow[] rows(int... rowNums) {
+        ReportPageRow[] rows = new ReportPageRow[rowNums.length];
+        for (int i = 0; i < rowNums.length; i++) {
+            rows[i] = page.getRow(rowNums[i]);
+        }
+        return rows;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum TableHeader implements TableHeaderColumn {
+        NAME(PatternTableColumn.of("name")),
+        COUNT(PatternTableColumn.of("count"));
+
+        private final TableColumn column;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum CountingTableHeader implements TableHeaderColumn {
+        COLUMN((firstColumnForSearch, headerRows) -> {
+            resolveCount.incrementAndGet();
+            return countingColumnIndex;
+        });
+
+        private final TableColumn column;
+    }
+}
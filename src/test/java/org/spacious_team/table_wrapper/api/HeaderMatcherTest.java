@@ -0,0 +1,235 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.api.ReportPageRowHelper.getRow;
+import static org.spacious_team.table_wrapper.api.ReportPageRowHelper.getThreeRowsHeader;
+
+class HeaderMatcherTest {
+
+    @Test
+    void of() {
+        assertSame(HeaderMatcher.of(SingleRowHeader.class), HeaderMatcher.of(SingleRowHeader.class));
+        assertNotSame(HeaderMatcher.of(SingleRowHeader.class), HeaderMatcher.of(ThreeRowsHeader.class));
+    }
+
+    @Test
+    void isHeaderRowsRequired() {
+        assertTrue(HeaderMatcher.of(SingleRowHeader.class).isHeaderRowsRequired());
+        assertFalse(HeaderMatcher.of(ConstantHeader.class).isHeaderRowsRequired());
+        assertEquals(Map.of(ConstantHeader.CONSTANT.getColumn(), 7),
+                HeaderMatcher.of(ConstantHeader.class).getHeaderDescription());
+    }
+
+    @Test
+    void singleRowHeader() {
+        ReportPageRow[] headerRows = {getRow()};
+        Map<TableColumn, Integer> expected = new HashMap<>();
+        expected.put(SingleRowHeader.TEST_WORD.getColumn(), 9);
+        expected.put(SingleRowHeader.SPARTA.getColumn(), 10);
+        expected.put(SingleRowHeader.CAPITAL.getColumn(), 20);
+        expected.put(SingleRowHeader.MAC_OR_WINDOWS.getColumn(), 21);
+        expected.put(SingleRowHeader.WINDOWS.getColumn(), 22);
+        expected.put(SingleRowHeader.NEXT_TO_SPARTA.getColumn(), 11);
+        expected.put(SingleRowHeader.CONSTANT.getColumn(), 7);
+        expected.put(SingleRowHeader.GENERIC.getColumn(), 3);
+        expected.put(SingleRowHeader.REGEX.getColumn(), 20);
+        expected.put(SingleRowHeader.SINGLE_CHAR.getColumn(), 20);
+
+        Map<TableColumn, Integer> headerDescription = HeaderMatcher.of(SingleRowHeader.class)
+                .getHeaderDescription(headerRows);
+
+        assertEquals(expected, headerDescription);
+        assertEquals(getHeaderDescriptionByColumns(SingleRowHeader.class, headerRows), headerDescription);
+    }
+
+    @Test
+    void threeRowsHeader() {
+        ReportPageRow[] headerRows = getThreeRowsHeader();
+        Map<TableColumn, Integer> expected = new HashMap<>();
+        expected.put(ThreeRowsHeader.ONE_A1_B1.getColumn(), 1);
+        expected.put(ThreeRowsHeader.TWO_A2_B2.getColumn(), 26);
+        expected.put(ThreeRowsHeader.ONE_A1_B2.getColumn(), 2);
+        expected.put(ThreeRowsHeader.TWO_A2_B2_DUPLICATE.getColumn(), 26);
+        expected.put(ThreeRowsHeader.ANY_OF.getColumn(), 5);
+
+        Map<TableColumn, Integer> headerDescription = HeaderMatcher.of(ThreeRowsHeader.class)
+                .getHeaderDescription(headerRows);
+
+        assertEquals(expected, headerDescription);
+        assertEquals(getHeaderDescriptionByColumns(ThreeRowsHeader.class, headerRows), headerDescription);
+    }
+
+    @Test
+    void caseInsensitive() {
+        ReportPageRow[] headerRows = {getRow(0,
+                ReportPageRowHelper.cell("ИТОГО по счету", 0),
+                ReportPageRowHelper.cell("Сумма, РУБ.", 1),
+                ReportPageRowHelper.cell("STRASSE", 2),
+                ReportPageRowHelper.cell(123, 3))};
+
+        Map<TableColumn, Integer> headerDescription = HeaderMatcher.of(CaseInsensitiveHeader.class)
+                .getHeaderDescription(headerRows);
+
+        assertEquals(Map.of(
+                        CaseInsensitiveHeader.TOTAL.getColumn(), 0,
+                        CaseInsensitiveHeader.SUM.getColumn(), 1,
+                        CaseInsensitiveHeader.STRASSE.getColumn(), 2),
+                headerDescription);
+        assertEquals(getHeaderDescriptionByColumns(CaseInsensitiveHeader.class, headerRows), headerDescription);
+    }
+
+    @Test
+    void requiredColumnNotFound() {
+        ReportPageRow[] headerRows = {getRow(0, ReportPageRowHelper.cell("test", 0))};
+        HeaderMatcher matcher = HeaderMatcher.of(SingleRowHeader.class);
+
+        TableColumnNotFound e = assertThrows(TableColumnNotFound.class, () -> matcher.getHeaderDescription(headerRows));
+        TableColumnNotFound expected = assertThrows(TableColumnNotFound.class,
+                () -> getHeaderDescriptionByColumns(SingleRowHeader.class, headerRows));
+        assertEquals(expected.getMessage(), e.getMessage());
+    }
+
+    @Test
+    void findHeaderDescription() {
+        ReportPageRow[] headerRows = {getRow()};
+        HeaderMatcher matcher = HeaderMatcher.of(SingleRowHeader.class);
+
+        assertEquals(matcher.getHeaderDescription(headerRows), matcher.findHeaderDescription(headerRows));
+    }
+
+    @Test
+    void findHeaderDescriptionRequiredColumnNotFound() {
+        ReportPageRow[] headerRows = {getRow(0, ReportPageRowHelper.cell("test", 0))};
+
+        assertNull(HeaderMatcher.of(SingleRowHeader.class).findHeaderDescription(headerRows));
+        assertNull(HeaderMatcher.of(ThreeRowsHeader.class).findHeaderDescription(getRow()));
+    }
+
+    @Test
+    void findHeaderDescriptionWrappedOptionalColumnNotFound() {
+        ReportPageRow[] headerRows = {getRow(0, ReportPageRowHelper.cell("name", 0))};
+        HeaderMatcher matcher = HeaderMatcher.of(WrappedOptionalHeader.class);
+
+        Map<TableColumn, Integer> expected = Map.of(WrappedOptionalHeader.NAME.getColumn(), 0);
+        assertEquals(expected, matcher.getHeaderDescription(headerRows));
+        assertEquals(expected, matcher.findHeaderDescription(headerRows));
+    }
+
+    @Test
+    void multiLineColumnRowCountMismatch() {
+        ReportPageRow[] headerRows = {getRow()};
+
+        assertThrows(TableColumnNotFound.class,
+                () -> HeaderMatcher.of(ThreeRowsHeader.class).getHeaderDescription(headerRows));
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("HeaderMatcher(headerDescription=" + SingleRowHeader.class + ")",
+                HeaderMatcher.of(SingleRowHeader.class).toString());
+    }
+
+    private static <T extends Enum<T> & TableHeaderColumn>
+    Map<TableColumn, Integer> getHeaderDescriptionByColumns(Class<T> headerDescription, ReportPageRow[] headerRows) {
+        Map<TableColumn, Integer> columnIndices = new HashMap<>();
+        Arrays.stream(headerDescription.getEnumConstants())
+                .map(TableHeaderColumn::getColumn)
+                .forEach(column -> {
+                    try {
+                        columnIndices.put(column, column.getColumnIndex(headerRows));
+                    } catch (OptionalTableColumnNotFound ignore) {
+                    }
+                });
+        return columnIndices;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum SingleRowHeader implements TableHeaderColumn {
+        TEST_WORD(PatternTableColumn.of("test", "word")),
+        SPARTA(PatternTableColumn.of("this", "sparta")),
+        CAPITAL(PatternTableColumn.of("london", "capital")),
+        MAC_OR_WINDOWS(AnyOfTableColumn.of(PatternTableColumn.of("absent"), PatternTableColumn.of("mac"))),
+        WINDOWS(PatternTableColumn.of("WINDOWS\r\nNEW")),
+        NEXT_TO_SPARTA(RelativePositionTableColumn.of(PatternTableColumn.of("this", "sparta"), 1)),
+        ABSENT(OptionalTableColumn.of(PatternTableColumn.of("absent"))),
+        CONSTANT(ConstantPositionTableColumn.of(7)),
+        GENERIC((firstColumnForSearch, headerRows) -> 3),
+        REGEX(PatternTableColumn.of("^London\\s+is", "of great")),
+        SINGLE_CHAR(PatternTableColumn.of("L", "capital"));
+
+        private final TableColumn column;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum ThreeRowsHeader implements TableHeaderColumn {
+        ONE_A1_B1(MultiLineTableColumn.of("one", "a1", "b1")),
+        TWO_A2_B2(MultiLineTableColumn.of("two", "a2", "b2")),
+        ONE_A1_B2(MultiLineTableColumn.of("one", "a1", "b2")),
+        TWO_A2_B2_DUPLICATE(MultiLineTableColumn.of(
+                PatternTableColumn.of("two"), PatternTableColumn.of("a2"), PatternTableColumn.of("b2"))),
+        ANY_OF(AnyOfTableColumn.of(
+                MultiLineTableColumn.of("one", "a3", "b1"),
+                MultiLineTableColumn.of("one", "a2", "b1"))),
+        OPTIONAL(OptionalTableColumn.of(MultiLineTableColumn.of("three", "a2", "b1")));
+
+        private final TableColumn column;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum CaseInsensitiveHeader implements TableHeaderColumn {
+        TOTAL(PatternTableColumn.of("итого")),
+        SUM(PatternTableColumn.of("сумма", "руб")),
+        STRASSE(PatternTableColumn.of("strasse")),
+        STRASSE_WITH_SHARP_S(OptionalTableColumn.of(PatternTableColumn.of("straße"))), // letters are not equal ignoring case
+        NUMBER(OptionalTableColumn.of(PatternTableColumn.of("123")));
+
+        private final TableColumn column;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum WrappedOptionalHeader implements TableHeaderColumn {
+        NAME(PatternTableColumn.of("name")),
+        RELATIVE(RelativePositionTableColumn.of(OptionalTableColumn.of(PatternTableColumn.of("absent")), 1)),
+        MULTI_LINE(MultiLineTableColumn.of(OptionalTableColumn.of(PatternTableColumn.of("absent"))));
+
+        private final TableColumn column;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum ConstantHeader implements TableHeaderColumn {
+        CONSTANT(ConstantPositionTableColumn.of(7));
+
+        private final TableColumn column;
+    }
+}
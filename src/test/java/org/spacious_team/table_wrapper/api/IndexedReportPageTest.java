@@ -0,0 +1,202 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.spacious_team.table_wrapper.api.TableCellAddress.NOT_FOUND;
+
+class IndexedReportPageTest {
+
+    ArrayReportPage page;
+    IndexedReportPage<ArrayReportPage.ArrayReportPageRow> indexedPage;
+
+    @BeforeEach
+    void setUp() {
+        page = spy(new ArrayReportPage(
+                new Object[]{"Table 1", null, 1},
+                null,
+                new Object[]{"a", "b", "Table 1"},
+                new Object[]{2.0, "a", null, "b"},
+                new Object[]{"Total", "a"}));
+        indexedPage = IndexedReportPage.of(page);
+    }
+
+    @Test
+    void find() {
+        assertEquals(TableCellAddress.of(0, 0), indexedPage.find("Table 1"));
+        assertEquals(TableCellAddress.of(2, 2), indexedPage.find("Table 1", 1));
+        assertEquals(TableCellAddress.of(2, 2), indexedPage.find("Table 1", 0, 3, 1, 3));
+        assertEquals(NOT_FOUND, indexedPage.find("Table 1", 0, 2, 1, 3));
+        assertEquals(TableCellAddress.of(3, 1), indexedPage.find("a", 0, 5, 1, 2));
+        assertEquals(TableCellAddress.of(4, 1), indexedPage.find("a", 4));
+        assertEquals(NOT_FOUND, indexedPage.find("a", 5));
+        assertEquals(NOT_FOUND, indexedPage.find("not exists"));
+    }
+
+    @Test
+    void findSameAsReportPage() {
+        for (Object value : new Object[]{"Table 1", "a", "b", "Total", "c"}) {
+            for (int startRow = -1; startRow < 6; startRow++) {
+                for (int startColumn = 0; startColumn < 4; startColumn++) {
+                    assertEquals(
+                            page.find(value, startRow, 5, startColumn, 3),
+                            indexedPage.find(value, startRow, 5, startColumn, 3));
+                }
+            }
+        }
+    }
+
+    @Test
+    void findNumber() {
+        assertEquals(TableCellAddress.of(0, 2), indexedPage.find(1));
+        assertEquals(TableCellAddress.of(3, 0), indexedPage.find(2.0));
+        for (Object value : new Object[]{1, 1.0, 1L, 2, 2.0, 2L}) {
+            assertEquals(page.find(value), indexedPage.find(value));
+        }
+    }
+
+    @Test
+    void findLongExactly() {
+        long value = (1L << 53) + 1;
+        ArrayReportPage page = new ArrayReportPage(new Object[]{value - 1, value});
+        IndexedReportPage<?> indexedPage = IndexedReportPage.of(page);
+
+        assertEquals(TableCellAddress.of(0, 1), indexedPage.find(value));
+        assertEquals(TableCellAddress.of(0, 0), indexedPage.find(value - 1));
+    }
+
+    @Test
+    void indexIsBuiltOnce() {
+        indexedPage.find("a");
+        indexedPage.find("b");
+        indexedPage.find("Total");
+
+        verify(page, times(1)).getRow(0);
+        verify(page, never()).find(any(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    void findFirstMatches() {
+        Predicate<Object> prefixPredicate = ReportPageHelper.getCellStringValueIgnoreCasePrefixPredicate("tot");
+        Predicate<Object> predicate = "b"::equals;
+        List<Predicate<Object>> predicates = List.of(prefixPredicate, predicate, prefixPredicate);
+
+        assertEquals(page.findFirstMatches(predicates), indexedPage.findFirstMatches(predicates));
+        assertEquals(page.findFirstMatches(predicates, 0, 3, 1, 5), indexedPage.findFirstMatches(predicates, 0, 3, 1, 5));
+        verify(page).findFirstMatches(List.of(predicate), 0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE);
+        verify(page).findFirstMatches(List.of(predicate), 0, 3, 1, 5);
+    }
+
+    @Test
+    void getNextColumnValue() {
+        assertEquals("a", indexedPage.getNextColumnValue("Total"));
+        assertEquals(1, indexedPage.getNextColumnValue("Table"));
+        verify(page, never()).find(anyInt(), anyInt(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void forwardedMethods() {
+        Predicate<Object> predicate = "b"::equals;
+        assertEquals(TableCellAddress.of(2, 1), indexedPage.find(predicate));
+        assertSame(page.getRow(3), indexedPage.getRow(3));
+        assertEquals(4, indexedPage.getLastRowNum());
+        assertSame(page, indexedPage.getReportPage());
+    }
+
+    @Test
+    void findEmptyRow() {
+        int[] expected = new int[8];
+        for (int startRow = -1; startRow < 7; startRow++) {
+            expected[startRow + 1] = page.findEmptyRow(startRow);
+        }
+        clearInvocations(page);
+
+        for (int startRow = -1; startRow < 7; startRow++) {
+            assertEquals(expected[startRow + 1], indexedPage.findEmptyRow(startRow));
+        }
+        assertSame(indexedPage.getRowSummary(), indexedPage.getRowSummary());
+        verify(page, never()).findEmptyRow(anyInt());
+    }
+
+    @Test
+    void findByPrefix() {
+        assertEquals(TableCellAddress.of(0, 0), indexedPage.findByPrefix("table"));
+        assertEquals(TableCellAddress.of(0, 0), indexedPage.findByPrefix(" TABLE 1 "));
+        assertEquals(TableCellAddress.of(2, 2), indexedPage.findByPrefix("Table", 1));
+        assertEquals(TableCellAddress.of(2, 1), indexedPage.findByPrefix("b", 0, 5, 1, 2));
+        assertEquals(TableCellAddress.of(4, 0), indexedPage.findByPrefix("tot"));
+        assertEquals(NOT_FOUND, indexedPage.findByPrefix("Table 2"));
+        assertEquals(NOT_FOUND, indexedPage.findByPrefix(""));
+        assertEquals(NOT_FOUND, indexedPage.findByPrefix(null, 0, 5, 0, 5));
+        verify(page, never()).find(anyInt(), anyInt(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void findByPrefixSameAsReportPage() {
+        for (String prefix : new String[]{"Table", "table 1", "A", " b", "TOTAL", "c", " "}) {
+            for (int startRow = -1; startRow < 6; startRow++) {
+                for (int startColumn = 0; startColumn < 4; startColumn++) {
+                    assertEquals(
+                            page.findByPrefix(prefix, startRow, 5, startColumn, 3),
+                            indexedPage.findByPrefix(prefix, startRow, 5, startColumn, 3));
+                }
+            }
+        }
+    }
+
+    @Test
+    void findByPrefixOnManyMatchesSameAsReportPage() {
+        Object[][] rows = new Object[37][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[]{"row " + (i % 7), i, "value " + (i % 3), "row", (i % 5 == 0) ? null : "row " + i};
+        }
+        ArrayReportPage page = new ArrayReportPage(rows);
+        IndexedReportPage<?> indexedPage = IndexedReportPage.of(page);
+
+        for (String prefix : new String[]{"row", "row 1", "row 3", "value", "value 2", "v", "x"}) {
+            for (int startRow = 0; startRow < rows.length + 1; startRow += 3) {
+                for (int startColumn = 0; startColumn < 5; startColumn++) {
+                    for (int endColumn = startColumn + 1; endColumn <= 5; endColumn++) {
+                        assertEquals(
+                                page.findByPrefix(prefix, startRow, rows.length - 2, startColumn, endColumn),
+                                indexedPage.findByPrefix(prefix, startRow, rows.length - 2, startColumn, endColumn));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void getTableCellRange() {
+        TableCellRange expected1 = page.getTableCellRange("Table 1", 1, "Total");
+        TableCellRange expected2 = page.getTableCellRange("a", 0);
+        clearInvocations(page);
+
+        assertEquals(expected1, indexedPage.getTableCellRange("Table 1", 1, "Total"));
+        assertEquals(expected2, indexedPage.getTableCellRange("a", 0));
+        verify(page, never()).find(anyInt(), anyInt(), anyInt(), anyInt(), any());
+    }
+}
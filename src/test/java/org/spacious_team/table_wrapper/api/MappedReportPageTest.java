@@ -0,0 +1,141 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.api.TableCellAddress.NOT_FOUND;
+
+class MappedReportPageTest {
+
+    static final Instant instant = Instant.parse("2000-02-01T10:00:00Z");
+    @TempDir
+    Path dir;
+    ArrayReportPage page;
+    MappedReportPage mappedPage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        page = new ArrayReportPage(
+                new Object[]{"Table 1", null, 1},
+                new Object[]{null, "Name", "Count", "Date"},
+                new Object[]{null, "a", 2, instant},
+                new Object[]{null, "b", 3L, "2000-02-01T10:00:00Z"},
+                new Object[]{"", null, ""},
+                null,
+                new Object[]{"Total", "a"});
+        Path path = dir.resolve("page.snapshot");
+        ReportPageSnapshot.write(page, path);
+        mappedPage = MappedReportPage.open(path);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TableFactoryRegistry.remove(new MappedTableFactory());
+    }
+
+    @Test
+    void findSameAsReportPage() {
+        Object[] values = {"Table 1", "a", "b", "Total", "c", 1, 1L, 2, 3L, instant, ""};
+        for (Object value : values) {
+            for (int startRow = -1; startRow < 8; startRow++) {
+                for (int startColumn = 0; startColumn < 4; startColumn++) {
+                    assertEquals(
+                            page.find(value, startRow, 7, startColumn, 3),
+                            mappedPage.find(value, startRow, 7, startColumn, 3),
+                            () -> "value " + value);
+                }
+            }
+        }
+    }
+
+    @Test
+    void findByPredicate() {
+        Predicate<Object> predicate = v -> v instanceof Number;
+        assertEquals(TableCellAddress.of(0, 2), mappedPage.find(predicate));
+        assertEquals(TableCellAddress.of(2, 2), mappedPage.find(1, predicate));
+        assertEquals(NOT_FOUND, mappedPage.find(4, predicate));
+        assertEquals(TableCellAddress.of(6, 0), mappedPage.findByPrefix("tot"));
+    }
+
+    @Test
+    void findEmptyRowSameAsReportPage() {
+        for (int startRow = -1; startRow < 9; startRow++) {
+            assertEquals(page.findEmptyRow(startRow), mappedPage.findEmptyRow(startRow));
+        }
+    }
+
+    @Test
+    void getRow() {
+        assertNull(mappedPage.getRow(5));
+        assertNull(mappedPage.getRow(-1));
+        assertNull(mappedPage.getRow(7));
+
+        MappedReportPageRow row = mappedPage.getRow(2);
+        assertNotNull(row);
+        assertEquals(2, row.getRowNum());
+        assertEquals(1, row.getFirstCellNum());
+        assertEquals(3, row.getLastCellNum());
+        assertTrue(row.rowContains(2));
+        assertFalse(row.rowContains("b"));
+        assertNull(row.getCell(0));
+        assertEquals("a", row.getCell(1).getValue());
+        assertEquals(1, row.getCell(1).getColumnIndex());
+        assertEquals(instant, row.getCell(3).getInstantValue());
+    }
+
+    @Test
+    void createTable() {
+        TableFactoryRegistry.add(new MappedTableFactory());
+        Table table = mappedPage.create("Table 1", TableHeader.class);
+
+        assertEquals(MappedTable.class, table.getClass());
+        assertEquals(List.of("a:2", "b:3"), table.getData("report", row ->
+                row.getStringCellValue(TableHeader.NAME) + ":" + row.getIntCellValue(TableHeader.COUNT)));
+        assertEquals(List.of(instant, instant), table.getData("report", row -> row.getInstantCellValue(TableHeader.DATE)));
+        assertEquals(1, table.subTable(0, -1).getData("report", row -> row).size());
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("MappedReportPage(lastRowNum=6)", mappedPage.toString());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum TableHeader implements TableHeaderColumn {
+        NAME(PatternTableColumn.of("name")),
+        COUNT(PatternTableColumn.of("count")),
+        DATE(PatternTableColumn.of("date"));
+
+        private final TableColumn column;
+    }
+}
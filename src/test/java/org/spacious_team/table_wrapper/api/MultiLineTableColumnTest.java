@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import static nl.jqno.equalsverifier.Warning.STRICT_INHERITANCE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.spacious_team.table_wrapper.api.TableColumn.NOT_FOUND;
 
 class MultiLineTableColumnTest {
 
@@ -53,6 +54,15 @@ class MultiLineTableColumnTest {
         assertThrows(TableColumnNotFound.class, () -> column4.getColumnIndex(3, rows));
     }
 
+    @Test
+    void findColumnIndex() {
+        ReportPageRow[] rows = ReportPageRowHelper.getThreeRowsHeader();
+        assertEquals(26, MultiLineTableColumn.of("TWO", "A2", "b2").findColumnIndex(0, rows));
+        assertEquals(NOT_FOUND, MultiLineTableColumn.of("not", "fo", "und").findColumnIndex(0, rows));
+        assertEquals(NOT_FOUND, MultiLineTableColumn.of("one").findColumnIndex(0, rows));
+        assertEquals(NOT_FOUND, MultiLineTableColumn.of("one", "a1", "b2").findColumnIndex(3, rows));
+    }
+
     @Test
     void equalsAndHashCode() {
         EqualsVerifier
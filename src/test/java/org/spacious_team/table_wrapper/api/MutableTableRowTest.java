@@ -18,6 +18,8 @@
 
 package org.spacious_team.table_wrapper.api;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,6 +32,7 @@ import java.util.Map;
 import static nl.jqno.equalsverifier.Warning.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -62,6 +65,18 @@ class MutableTableRowTest {
         verify(row).getCell(COLUMN_INDEX);
     }
 
+    @Test
+    void getCellByColumnIndices() {
+        ColumnIndices columnIndices = ColumnIndices.of(Map.of(TableHeader.COLUMN.getColumn(), COLUMN_INDEX), TableHeader.class);
+        MutableTableRow<ReportPageRow> row = spy(new MutableTableRow<>(table, dao, columnIndices));
+        row.setRow(wrappedRow);
+
+        row.getCell(TableHeader.COLUMN);
+        verify(row).getCell(COLUMN_INDEX);
+        verifyNoInteractions(table);
+        assertThrows(NullPointerException.class, () -> row.getCell(TableHeader.ABSENT));
+    }
+
     @Test
     void testGetCell() {
         row.getCell(COLUMN_INDEX);
@@ -174,6 +189,7 @@ class MutableTableRowTest {
         EqualsVerifier
                 .forClass(MutableTableRow.class)
                 .suppress(STRICT_INHERITANCE) // no subclass for test
+                .withIgnoredFields("columnIndices") // defined by table
                 .suppress(NONFINAL_FIELDS)
                 .verify();
     }
@@ -182,4 +198,13 @@ class MutableTableRowTest {
     void testToString() {
         assertEquals("MutableTableRow(table=table, dao=dao, row=wrappedRow)", row.toString());
     }
-}
\ No newline at end of file
+
+    @Getter
+    @RequiredArgsConstructor
+    enum TableHeader implements TableHeaderColumn {
+        COLUMN(PatternTableColumn.of("column")),
+        ABSENT(PatternTableColumn.of("absent"));
+
+        private final TableColumn column;
+    }
+}
@@ -25,6 +25,7 @@ import static nl.jqno.equalsverifier.Warning.ALL_FIELDS_SHOULD_BE_USED;
 import static nl.jqno.equalsverifier.Warning.STRICT_INHERITANCE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.spacious_team.table_wrapper.api.TableColumn.NOT_FOUND;
 
 class OptionalTableColumnTest {
 
@@ -39,6 +40,14 @@ class OptionalTableColumnTest {
         assertThrows(OptionalTableColumnNotFound.class, () -> column2.getColumnIndex(row));
     }
 
+    @Test
+    void findColumnIndex() {
+        ReportPageRow row = ReportPageRowHelper.getRow();
+        assertEquals(9, OptionalTableColumn.of(PatternTableColumn.of("test")).findColumnIndex(0, row));
+        assertEquals(NOT_FOUND, OptionalTableColumn.of(PatternTableColumn.of("test")).findColumnIndex(10, row));
+        assertEquals(NOT_FOUND, OptionalTableColumn.of(TableColumn.NOCOLUMN).findColumnIndex(0, row));
+    }
+
     @Test
     void testEqualsAndHashCode() {
         EqualsVerifier
@@ -0,0 +1,144 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.spacious_team.table_wrapper.api.TableCellAddress.NOT_FOUND;
+
+class ParallelReportPageTest {
+
+    static ForkJoinPool pool;
+    ArrayReportPage page;
+    ParallelReportPage<ArrayReportPage.ArrayReportPageRow> parallelPage;
+
+    @BeforeAll
+    static void beforeAll() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        pool.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        Object[][] rows = new Object[100][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = (i % 10 == 5) ? null : new Object[]{"row " + i, i % 7, (i % 13 == 0) ? "x" : null};
+        }
+        page = spy(new ArrayReportPage(rows));
+        parallelPage = ParallelReportPage.of(page, pool, 10);
+    }
+
+    @Test
+    void findSameAsReportPage() {
+        @SuppressWarnings("unchecked")
+        Predicate<Object>[] predicates = new Predicate[]{
+                "x"::equals,
+                "row 99"::equals,
+                "row 5"::equals,
+                v -> v.equals(3),
+                v -> false};
+        for (Predicate<Object> predicate : predicates) {
+            for (int startRow = -1; startRow < 101; startRow += 7) {
+                for (int startColumn = 0; startColumn < 3; startColumn++) {
+                    assertEquals(
+                            page.find(startRow, Integer.MAX_VALUE, startColumn, 3, predicate),
+                            parallelPage.find(startRow, Integer.MAX_VALUE, startColumn, 3, predicate));
+                    assertEquals(
+                            page.find(startRow, 60, startColumn, 3, predicate),
+                            parallelPage.find(startRow, 60, startColumn, 3, predicate));
+                }
+            }
+        }
+    }
+
+    @Test
+    void find() {
+        assertEquals(TableCellAddress.of(0, 2), parallelPage.find("x"::equals));
+        assertEquals(TableCellAddress.of(13, 2), parallelPage.find(1, "x"::equals));
+        assertEquals(TableCellAddress.of(99, 0), parallelPage.find("row 99"::equals));
+        assertEquals(NOT_FOUND, parallelPage.find("row 100"::equals));
+        verify(page, atLeast(2)).find(anyInt(), anyInt(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void runningChunkStopsAfterEarlierChunkResult() {
+        CountDownLatch resultFound = new CountDownLatch(1);
+        Set<Object> testedValues = ConcurrentHashMap.newKeySet();
+        Predicate<Object> predicate = v -> {
+            testedValues.add(v);
+            if ("row 7".equals(v)) { // first row of second chunk waits for first chunk result
+                try {
+                    resultFound.await(10, SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "row 0".equals(v);
+        };
+
+        assertEquals(TableCellAddress.of(0, 0), parallelPage.find(predicate));
+        resultFound.countDown();
+        assertTrue(pool.awaitQuiescence(10, SECONDS));
+        for (int i = 8; i < 14; i++) {
+            assertFalse(testedValues.contains("row " + i), "row " + i);
+        }
+    }
+
+    @Test
+    void findBelowThreshold() {
+        Predicate<Object> predicate = "x"::equals;
+        assertEquals(TableCellAddress.of(13, 2), parallelPage.find(10, 19, 0, 3, predicate));
+        verify(page).find(10, 19, 0, 3, predicate);
+        verify(page, times(1)).find(anyInt(), anyInt(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void findByPrefix() {
+        assertEquals(TableCellAddress.of(42, 0), parallelPage.findByPrefix("ROW 42"));
+    }
+
+    @Test
+    void findExactValueIsNotParallelized() {
+        assertEquals(TableCellAddress.of(39, 0), parallelPage.find("row 39"));
+        verify(page).find("row 39", 0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE);
+    }
+
+    @Test
+    void getRowThreshold() {
+        assertEquals(10, parallelPage.getRowThreshold());
+        assertEquals(ParallelReportPage.DEFAULT_ROW_THRESHOLD, ParallelReportPage.of(page, pool).getRowThreshold());
+        assertThrows(IllegalArgumentException.class, () -> ParallelReportPage.of(page, pool, 0));
+    }
+}
@@ -26,6 +26,7 @@ import static nl.jqno.equalsverifier.Warning.STRICT_INHERITANCE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.spacious_team.table_wrapper.api.TableColumn.LEFTMOST_COLUMN;
+import static org.spacious_team.table_wrapper.api.TableColumn.NOT_FOUND;
 
 class PatternTableColumnTest {
 
@@ -69,6 +70,14 @@ class PatternTableColumnTest {
         assertThrows(TableColumnNotFound.class, () -> column5.getColumnIndex(row));
     }
 
+    @Test
+    void findColumnIndex() {
+        ReportPageRow row = ReportPageRowHelper.getRow();
+        assertEquals(22, PatternTableColumn.of("windows").findColumnIndex(21, row));
+        assertEquals(NOT_FOUND, PatternTableColumn.of("windows").findColumnIndex(23, row));
+        assertEquals(NOT_FOUND, PatternTableColumn.of("not found").findColumnIndex(0, row));
+    }
+
     @Test
     void testEqualsAndHashCode() {
         EqualsVerifier
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import static nl.jqno.equalsverifier.Warning.STRICT_INHERITANCE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.spacious_team.table_wrapper.api.TableColumn.NOT_FOUND;
 
 class RelativePositionTableColumnTest {
 
@@ -40,6 +41,14 @@ class RelativePositionTableColumnTest {
         assertThrows(TableColumnNotFound.class, () -> column2.getColumnIndex(row));
     }
 
+    @Test
+    void findColumnIndex() {
+        ReportPageRow row = ReportPageRowHelper.getRow();
+        assertEquals(7, RelativePositionTableColumn.of(PatternTableColumn.of("test"), -2).findColumnIndex(0, row));
+        assertEquals(NOT_FOUND, RelativePositionTableColumn.of(PatternTableColumn.of("test"), -2).findColumnIndex(10, row));
+        assertEquals(NOT_FOUND, RelativePositionTableColumn.of(PatternTableColumn.of("not found"), 4).findColumnIndex(0, row));
+    }
+
     @Test
     void testEqualsAndHashCode() {
         EqualsVerifier
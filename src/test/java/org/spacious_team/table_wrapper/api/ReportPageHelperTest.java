@@ -22,7 +22,14 @@ import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
 import org.spacious_team.table_wrapper.api.ReportPageHelper.StringIgnoreCasePrefixPredicate;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.Predicate;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
 import static org.spacious_team.table_wrapper.api.ReportPageHelper.getCellStringValueIgnoreCasePrefixPredicate;
 
 class ReportPageHelperTest {
@@ -40,6 +47,66 @@ class ReportPageHelperTest {
         assertFalse(getCellStringValueIgnoreCasePrefixPredicate("First").test(1));
         assertFalse(getCellStringValueIgnoreCasePrefixPredicate("First").test(1.1));
         assertFalse(getCellStringValueIgnoreCasePrefixPredicate("First").test(new Object()));
+        assertTrue(getCellStringValueIgnoreCasePrefixPredicate(" First ").test("\t first second"));
+        assertTrue(getCellStringValueIgnoreCasePrefixPredicate("First").test("First"));
+        assertTrue(getCellStringValueIgnoreCasePrefixPredicate("  ").test("any"));
+        assertFalse(getCellStringValueIgnoreCasePrefixPredicate("First").test("Firs"));
+        assertFalse(getCellStringValueIgnoreCasePrefixPredicate("First").test("   "));
+        assertFalse(getCellStringValueIgnoreCasePrefixPredicate("First").test("a First"));
+    }
+
+    @Test
+    void testCyrillic() {
+        assertTrue(getCellStringValueIgnoreCasePrefixPredicate("Итого").test("ИТОГО по счету"));
+        assertTrue(getCellStringValueIgnoreCasePrefixPredicate("ИТОГО ПО").test(" итого по счету"));
+        assertTrue(getCellStringValueIgnoreCasePrefixPredicate("Ёлка").test("ёЛКА"));
+        assertFalse(getCellStringValueIgnoreCasePrefixPredicate("Итого").test("Итог"));
+        assertFalse(getCellStringValueIgnoreCasePrefixPredicate("Ёлка").test("Елка"));
+    }
+
+    @Test
+    void testNormalizeCellStringValue() {
+        assertEquals("first second", ReportPageHelper.normalizeCellStringValue("  First SECOND \n"));
+        assertEquals("итого ёлка", ReportPageHelper.normalizeCellStringValue("ИТОГО Ёлка"));
+        assertEquals("", ReportPageHelper.normalizeCellStringValue("  "));
+    }
+
+    @Test
+    void testWithoutMemoryAllocation() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadMXBean;
+        assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+        Predicate<Object> predicate = getCellStringValueIgnoreCasePrefixPredicate("Итого");
+        Object matchedValue = "  итого по счету";
+        Object notMatchedValue = "  Сделки";
+        long threadId = Thread.currentThread().getId();
+
+        long allocatedBytesBefore = bean.getThreadAllocatedBytes(threadId);
+        int matchedCount = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (predicate.test(matchedValue) && !predicate.test(notMatchedValue)) {
+                matchedCount++;
+            }
+        }
+        long allocatedBytes = bean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+
+        assertEquals(10_000, matchedCount);
+        assertTrue(allocatedBytes < 10_000, "Allocated " + allocatedBytes + " bytes for 20000 tests");
+    }
+
+    @Test
+    void findEmptyRows() {
+        ReportPage reportPage = spy(new ArrayReportPage(
+                new Object[]{"a"},
+                new Object[]{"b"},
+                null,
+                new Object[]{"c"},
+                new Object[]{"d"}));
+        int[] startRows = {0, Integer.MAX_VALUE, 1, 3, 4};
+
+        assertArrayEquals(new int[]{2, -1, 2, -1, -1}, ReportPageHelper.findEmptyRows(reportPage, startRows));
+        verify(reportPage, times(2)).findEmptyRow(anyInt());
     }
 
     @Test
@@ -0,0 +1,202 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportPageSnapshotTest {
+
+    @TempDir
+    Path dir;
+    Path path;
+
+    @BeforeEach
+    void setUp() {
+        path = dir.resolve("page.snapshot");
+    }
+
+    @Test
+    void writeAndOpen() throws IOException {
+        Object[] values = {1, 2L, 1.5, true, "Строка", BigDecimal.valueOf(12345, 2),
+                Instant.parse("2000-02-01T10:00:00.123Z"), LocalDateTime.of(2000, 2, 1, 10, 0), LocalDate.of(2000, 2, 1),
+                "", new StringBuilder("sb")};
+        ArrayReportPage page = new ArrayReportPage(values, null, new Object[]{null, "a", null, 1}, new Object[]{});
+        ReportPageSnapshot.write(page, path);
+        MappedReportPage mappedPage = MappedReportPage.open(path, true);
+
+        assertEquals(3, mappedPage.getLastRowNum());
+        assertEquals(List.of(1, 2L, 1.5, true, "Строка", BigDecimal.valueOf(12345, 2),
+                        Instant.parse("2000-02-01T10:00:00.123Z"), LocalDateTime.of(2000, 2, 1, 10, 0), LocalDate.of(2000, 2, 1),
+                        "", "sb"),
+                getValues(mappedPage.getRow(0)));
+        assertNull(mappedPage.getRow(1));
+        assertEquals(List.of("a", 1), getValues(mappedPage.getRow(2)));
+        assertEquals(List.of(), getValues(mappedPage.getRow(3)));
+    }
+
+    @Test
+    void writeLargePage() throws IOException {
+        Object[][] rows = new Object[3000][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[]{"row " + i, i, "value " + (i % 10)};
+        }
+        ReportPageSnapshot.write(new ArrayReportPage(rows), path);
+        MappedReportPage mappedPage = MappedReportPage.open(path);
+
+        assertEquals(2999, mappedPage.getLastRowNum());
+        assertEquals(List.of("row 2999", 2999, "value 9"), getValues(mappedPage.getRow(2999)));
+        assertEquals(TableCellAddress.of(1234, 0), mappedPage.find("row 1234"));
+    }
+
+    @Test
+    void writeEmptyPage() throws IOException {
+        ReportPageSnapshot.write(new ArrayReportPage(), path);
+        MappedReportPage mappedPage = MappedReportPage.open(path);
+
+        assertEquals(-1, mappedPage.getLastRowNum());
+        assertNull(mappedPage.getRow(0));
+        assertEquals(TableCellAddress.NOT_FOUND, mappedPage.find("a"));
+    }
+
+    @Test
+    void overwriteMappedSnapshot() throws IOException {
+        ReportPageSnapshot.write(new ArrayReportPage(new Object[]{"a", "b"}), path);
+        MappedReportPage mappedPage = MappedReportPage.open(path);
+
+        ReportPageSnapshot.write(new ArrayReportPage(new Object[]{"c"}), path);
+
+        assertEquals(List.of("a", "b"), getValues(mappedPage.getRow(0)));
+        assertEquals(List.of("c"), getValues(MappedReportPage.open(path).getRow(0)));
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(List.of(path), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void checksumMismatch() throws IOException {
+        ReportPageSnapshot.write(new ArrayReportPage(new Object[]{"a", "b"}), path);
+        try (FileChannel channel = FileChannel.open(path, WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'c'}), Files.size(path) - 1);
+        }
+
+        IOException e = assertThrows(IOException.class, () -> MappedReportPage.open(path, true));
+        assertEquals("Report page snapshot checksum mismatch", e.getMessage());
+        MappedReportPage notVerifiedPage = MappedReportPage.open(path, false);
+        assertEquals(List.of("a", "c"), getValues(notVerifiedPage.getRow(0)));
+    }
+
+    @Test
+    void corruptedHeader() throws IOException {
+        ReportPageSnapshot.write(new ArrayReportPage(new Object[]{"a", "b"}), path);
+        writeInt(16, -1); // dictionary size
+
+        IOException e = assertThrows(IOException.class, () -> MappedReportPage.open(path, true));
+        assertEquals("Report page snapshot checksum mismatch", e.getMessage());
+        e = assertThrows(IOException.class, () -> MappedReportPage.open(path, false));
+        assertEquals("Report page snapshot header is corrupted: lastRowNum=0, cellCount=2, dictionarySize=-1",
+                e.getMessage());
+    }
+
+    @Test
+    void corruptedHeaderCountOverflow() throws IOException {
+        ReportPageSnapshot.write(new ArrayReportPage(new Object[]{"a", "b"}), path);
+        writeInt(12, Integer.MAX_VALUE); // cell count
+        writeInt(16, Integer.MAX_VALUE); // dictionary size
+
+        IOException e = assertThrows(IOException.class, () -> MappedReportPage.open(path, false));
+        assertEquals("Report page snapshot is truncated", e.getMessage());
+    }
+
+    @Test
+    void corruptedRowIndex() throws IOException {
+        ReportPageSnapshot.write(new ArrayReportPage(new Object[]{"a", "b"}), path);
+        writeInt(ReportPageSnapshot.HEADER_SIZE + 4, 3); // first row cell count
+
+        MappedReportPage mappedPage = MappedReportPage.open(path);
+        MappedReportPageRow row = mappedPage.getRow(0);
+        assertNotNull(row);
+        assertThrows(IllegalStateException.class, () -> getValues(row));
+        assertThrows(IllegalStateException.class, () -> mappedPage.find("a"));
+    }
+
+    @Test
+    void corruptedDictionary() throws IOException {
+        ReportPageSnapshot.write(new ArrayReportPage(new Object[]{"a", "b"}), path);
+        int dictionaryIndexOffset = ReportPageSnapshot.HEADER_SIZE + ReportPageSnapshot.ROW_INDEX_ENTRY_SIZE +
+                2 * ReportPageSnapshot.CELL_SIZE;
+        writeInt(dictionaryIndexOffset + Integer.BYTES, 1000); // second string offset
+
+        MappedReportPage mappedPage = MappedReportPage.open(path);
+        assertEquals(TableCellAddress.of(0, 0), mappedPage.find("a"));
+        assertThrows(IllegalStateException.class, () -> mappedPage.find("b"));
+    }
+
+    @Test
+    void notASnapshot() throws IOException {
+        Files.write(path, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> MappedReportPage.open(path));
+
+        Files.write(path, new byte[64]);
+        assertThrows(IOException.class, () -> MappedReportPage.open(path, false));
+    }
+
+    @Test
+    void unsupportedVersion() throws IOException {
+        ReportPageSnapshot.write(new ArrayReportPage(new Object[]{"a"}), path);
+        try (FileChannel channel = FileChannel.open(path, WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, ReportPageSnapshot.VERSION + 1), 4);
+        }
+
+        IOException e = assertThrows(IOException.class, () -> MappedReportPage.open(path, false));
+        assertEquals("Unsupported report page snapshot version 2", e.getMessage());
+    }
+
+    private void writeInt(int position, int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, value), position);
+        }
+    }
+
+    static List<Object> getValues(ReportPageRow row) {
+        List<Object> values = new ArrayList<>();
+        for (TableCell cell : row) {
+            values.add(cell.getValue());
+        }
+        return values;
+    }
+}
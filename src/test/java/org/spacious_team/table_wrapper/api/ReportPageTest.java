@@ -29,6 +29,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -535,6 +536,55 @@ class ReportPageTest {
         verify(tableFactory).create(reportPage, tableNameFinder, tableHeader, 2);
     }
 
+    @Test
+    void findFirstMatches() {
+        ReportPage page = spy(new ArrayReportPage(
+                new Object[]{"Table 1", null, 1},
+                null,
+                new Object[]{"a", "b", "Table 2"},
+                new Object[]{"Total", "a"}));
+        Predicate<Object> table1 = getCellStringValueIgnoreCasePrefixPredicate("table 1");
+        Predicate<Object> table2 = getCellStringValueIgnoreCasePrefixPredicate("table 2");
+        Predicate<Object> a = "a"::equals;
+        Predicate<Object> c = "c"::equals;
+
+        assertEquals(
+                List.of(TableCellAddress.of(0, 0), TableCellAddress.of(2, 2), TableCellAddress.of(2, 0), NOT_FOUND),
+                page.findFirstMatches(List.of(table1, table2, a, c)));
+        verify(page, times(1)).getRow(2);
+        assertEquals(
+                List.of(NOT_FOUND, TableCellAddress.of(3, 1)),
+                page.findFirstMatches(List.of(table1, a), 1, 4, 1, 2));
+        assertEquals(List.of(), page.findFirstMatches(List.of()));
+    }
+
+    @Test
+    void getTableCellRanges() {
+        ReportPage page = new ArrayReportPage(
+                new Object[]{"Table 1"},
+                new Object[]{"header", "header"},
+                new Object[]{1, 2, 3},
+                new Object[]{"Total", 3},
+                new Object[]{"Table 2", null},
+                new Object[]{"header"},
+                new Object[]{"Total", 5});
+        Predicate<Object> table1 = getCellStringValueIgnoreCasePrefixPredicate("table 1");
+        Predicate<Object> table2 = getCellStringValueIgnoreCasePrefixPredicate("table 2");
+        Predicate<Object> table3 = getCellStringValueIgnoreCasePrefixPredicate("table 3");
+        Predicate<Object> total = getCellStringValueIgnoreCasePrefixPredicate("total");
+
+        assertEquals(
+                List.of(page.getTableCellRange(table1, 1, total),
+                        page.getTableCellRange(table2, 1, total),
+                        EMPTY_RANGE),
+                page.getTableCellRanges(List.of(table1, table2, table3), 1, List.of(total, total, total)));
+        assertEquals(
+                List.of(TableCellRange.of(0, 3, 0, 1), TableCellRange.of(4, 6, 0, 1)),
+                page.getTableCellRanges(List.of(table1, table2), 1, List.of(total, total)));
+        assertThrows(IllegalArgumentException.class,
+                () -> page.getTableCellRanges(List.of(table1, table2), 1, List.of(total)));
+    }
+
     @Test
     void createNameless() {
         reportPage.createNameless(headerRow, tableFooterString, tableHeader);
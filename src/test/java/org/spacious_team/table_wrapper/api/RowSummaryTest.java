@@ -0,0 +1,84 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowSummaryTest {
+
+    ArrayReportPage page;
+    RowSummary summary;
+
+    @BeforeEach
+    void setUp() {
+        page = new ArrayReportPage(
+                new Object[]{"Table 1", null, 1},
+                null,
+                new Object[]{"", "b", "", 2.0},
+                new Object[]{"", null, ""},
+                new Object[]{},
+                new Object[]{null, "a"});
+        summary = RowSummary.of(page);
+    }
+
+    @Test
+    void isEmpty() {
+        assertFalse(summary.isEmpty(0));
+        assertTrue(summary.isEmpty(1));
+        assertFalse(summary.isEmpty(2));
+        assertTrue(summary.isEmpty(3));
+        assertTrue(summary.isEmpty(4));
+        assertFalse(summary.isEmpty(5));
+        assertTrue(summary.isEmpty(6));
+        assertTrue(summary.isEmpty(-1));
+    }
+
+    @Test
+    void getNonBlankCellNum() {
+        assertEquals(0, summary.getFirstNonBlankCellNum(0));
+        assertEquals(2, summary.getLastNonBlankCellNum(0));
+        assertEquals(-1, summary.getFirstNonBlankCellNum(1));
+        assertEquals(-1, summary.getLastNonBlankCellNum(1));
+        assertEquals(1, summary.getFirstNonBlankCellNum(2));
+        assertEquals(3, summary.getLastNonBlankCellNum(2));
+        assertEquals(-1, summary.getFirstNonBlankCellNum(3));
+        assertEquals(1, summary.getFirstNonBlankCellNum(5));
+        assertEquals(1, summary.getLastNonBlankCellNum(5));
+        assertEquals(-1, summary.getFirstNonBlankCellNum(6));
+        assertEquals(-1, summary.getLastNonBlankCellNum(-1));
+    }
+
+    @Test
+    void findEmptyRowSameAsReportPage() {
+        for (int startRow = -1; startRow < 8; startRow++) {
+            assertEquals(page.findEmptyRow(startRow), summary.findEmptyRow(startRow), "startRow " + startRow);
+        }
+    }
+
+    @Test
+    void emptyPage() {
+        RowSummary emptySummary = RowSummary.of(new ArrayReportPage());
+        assertEquals(-1, emptySummary.getLastRowNum());
+        assertEquals(-1, emptySummary.findEmptyRow(0));
+        assertTrue(emptySummary.isEmpty(0));
+    }
+}
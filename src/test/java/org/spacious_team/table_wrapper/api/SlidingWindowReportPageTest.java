@@ -0,0 +1,104 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.api.TableCellAddress.NOT_FOUND;
+
+class SlidingWindowReportPageTest {
+
+    ArrayReportPage page;
+    SlidingWindowReportPage windowPage;
+
+    @BeforeEach
+    void setUp() {
+        page = new ArrayReportPage(
+                new Object[]{"a", 1},
+                null,
+                new Object[]{"b", 2},
+                new Object[]{"c", 3},
+                null,
+                null,
+                new Object[]{"d", 4});
+        windowPage = SlidingWindowReportPage.of(page.stream(), 3);
+    }
+
+    @Test
+    void nextRow() {
+        assertEquals(-1, windowPage.getLastRowNum());
+        assertSame(page.getRow(0), windowPage.nextRow());
+        assertSame(page.getRow(2), windowPage.nextRow());
+        assertEquals(2, windowPage.getLastRowNum());
+        assertSame(page.getRow(3), windowPage.nextRow());
+        assertSame(page.getRow(6), windowPage.nextRow());
+        assertNull(windowPage.nextRow());
+        assertEquals(6, windowPage.getLastRowNum());
+    }
+
+    @Test
+    void getRow() {
+        windowPage.nextRow();
+        windowPage.nextRow();
+        assertSame(page.getRow(0), windowPage.getRow(0));
+        assertNull(windowPage.getRow(1));
+        assertSame(page.getRow(2), windowPage.getRow(2));
+        assertNull(windowPage.getRow(3)); // not read yet
+
+        windowPage.nextRow();
+        assertEquals(1, windowPage.getFirstRowNum());
+        assertThrows(IllegalArgumentException.class, () -> windowPage.getRow(0));
+        assertSame(page.getRow(3), windowPage.getRow(3));
+
+        windowPage.nextRow();
+        assertEquals(4, windowPage.getFirstRowNum());
+        assertNull(windowPage.getRow(4));
+        assertNull(windowPage.getRow(5));
+        assertSame(page.getRow(6), windowPage.getRow(6));
+        assertNull(windowPage.getRow(-1));
+    }
+
+    @Test
+    void find() {
+        windowPage.nextRow();
+        windowPage.nextRow();
+        windowPage.nextRow();
+        assertEquals(NOT_FOUND, windowPage.find("a"));
+        assertEquals(TableCellAddress.of(2, 0), windowPage.find("b"));
+        assertEquals(TableCellAddress.of(3, 1), windowPage.find(3));
+        assertEquals(TableCellAddress.of(3, 0), windowPage.findByPrefix("C"));
+        assertEquals(NOT_FOUND, windowPage.find("d"));
+    }
+
+    @Test
+    void rowsOrder() {
+        ArrayReportPage.ArrayReportPageRow row = page.getRow(0);
+        SlidingWindowReportPage page = SlidingWindowReportPage.of(() -> row, 2);
+        page.nextRow();
+        assertThrows(IllegalStateException.class, page::nextRow);
+    }
+
+    @Test
+    void windowSize() {
+        assertEquals(3, windowPage.getWindowSize());
+        assertThrows(IllegalArgumentException.class, () -> SlidingWindowReportPage.of(page.stream(), 0));
+    }
+}
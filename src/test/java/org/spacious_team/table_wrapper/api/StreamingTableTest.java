@@ -0,0 +1,185 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingTableTest {
+
+    final ArrayReportPage page = new ArrayReportPage(
+            new Object[]{"Report"},
+            new Object[]{"Table 1"},
+            new Object[]{"Name", "Count"},
+            new Object[]{"a", 1},
+            new Object[]{"b", 2},
+            new Object[]{"", null, ""},
+            new Object[]{"Table 2", "description"},
+            new Object[]{null, "Count", "Name"},
+            new Object[]{null, 3, "c"},
+            null,
+            new Object[]{null, 4, "d"},
+            new Object[]{"Total", 7});
+
+    @Test
+    void tableEndsWithEmptyRow() {
+        Table table = StreamingTable.of(page.stream(), "table 1", TableHeader.class);
+
+        assertFalse(table.isEmpty());
+        assertEquals(List.of("a:1", "b:2"), table.getData("report", StreamingTableTest::toString));
+    }
+
+    @Test
+    void tableEndsWithAbsentRow() {
+        Table table = StreamingTable.of(page.stream(), "table 2", TableHeader.class);
+
+        assertEquals(List.of("c:3"), table.getData("report", StreamingTableTest::toString));
+    }
+
+    @Test
+    void tableEndsWithLastRow() {
+        StreamingReportPage stream = page.stream();
+        Table table = StreamingTable.of(stream, "Table 2", "Total", TableHeader.class);
+
+        assertEquals(List.of("c:3", "null:null", "d:4", "null:7"), table.getData("report", StreamingTableTest::toString));
+        assertNull(stream.nextRow());
+    }
+
+    @Test
+    void forEachData() {
+        Table table = StreamingTable.of(page.stream(), "Table 2", "Total", TableHeader.class);
+        List<String> data = new ArrayList<>();
+
+        table.forEachData("report", row -> {
+            if (row.getCellValue(TableHeader.NAME) == null) {
+                throw new IllegalArgumentException("name is absent");
+            }
+            return toString(row);
+        }, data::add);
+
+        assertEquals(List.of("c:3", "d:4"), data);
+    }
+
+    @Test
+    void sequentialTables() {
+        StreamingReportPage stream = page.stream();
+        Table table1 = StreamingTable.of(stream, "Table 1", TableHeader.class);
+        assertEquals(List.of("a:1", "b:2"), table1.getData("report", StreamingTableTest::toString));
+        Table table2 = StreamingTable.of(stream, "Table 2", "total", TableHeader.class);
+        assertEquals(List.of(3, 4, 7), table2.getData("report", row -> row.getCellValue(TableHeader.COUNT)));
+    }
+
+    @Test
+    void tableNotFound() {
+        StreamingTable table = StreamingTable.of(page.stream(), "Table 3", TableHeader.class);
+
+        assertTrue(table.isEmpty());
+        assertTrue(table.getHeaderDescription().isEmpty());
+        assertEquals(List.of(), table.getData("report", row -> row));
+    }
+
+    @Test
+    void headerDescription() {
+        StreamingTable table = StreamingTable.of(page.stream(), "Table 2", TableHeader.class);
+
+        assertEquals(2, table.getHeaderDescription().get(TableHeader.NAME.getColumn()));
+        assertEquals(1, table.getHeaderDescription().get(TableHeader.COUNT.getColumn()));
+    }
+
+    @Test
+    void column() {
+        Table table = StreamingTable.of(page.stream(), "Table 2", TableHeader.class);
+        ColumnHandle name = table.column(TableHeader.NAME);
+
+        assertEquals(2, name.getCellIndex());
+        assertEquals(List.of("c"), table.getData("report", name::getValue));
+    }
+
+    @Test
+    void headerRowIsAbsent() {
+        ArrayReportPage page = new ArrayReportPage(new Object[]{"Table"}, null, new Object[]{"Name", "Count"});
+        assertThrows(NullPointerException.class, () -> StreamingTable.of(page.stream(), "Table", TableHeader.class));
+    }
+
+    @Test
+    void iterateOnce() {
+        Table table = StreamingTable.of(page.stream(), "table 1", TableHeader.class);
+        table.iterator();
+
+        assertThrows(IllegalStateException.class, table::iterator);
+        assertThrows(IllegalStateException.class, () -> table.subTable(0, -1).iterator());
+    }
+
+    @Test
+    void stream() {
+        Table table = StreamingTable.of(page.stream(), "table 1", TableHeader.class);
+
+        assertEquals(2, table.stream().count());
+    }
+
+    @Test
+    void subTable() {
+        assertEquals(List.of("c:3", "null:null", "d:4"), StreamingTable.of(page.stream(), "Table 2", "Total", TableHeader.class)
+                .excludeTotalRow()
+                .getData("report", StreamingTableTest::toString));
+        assertEquals(List.of("null:null", "d:4"), StreamingTable.of(page.stream(), "Table 2", "Total", TableHeader.class)
+                .subTable(-1, -1)
+                .getData("report", StreamingTableTest::toString));
+        assertEquals(List.of(), StreamingTable.of(page.stream(), "Table 1", TableHeader.class)
+                .subTable(-1, -1)
+                .getData("report", StreamingTableTest::toString));
+
+        Table table = StreamingTable.of(page.stream(), "table 1", TableHeader.class);
+        assertThrows(UnsupportedOperationException.class, () -> table.subTable(1, 0));
+        assertThrows(UnsupportedOperationException.class, () -> table.subTable(0, 1));
+    }
+
+    @Test
+    void findRow() {
+        Table table = StreamingTable.of(page.stream(), "table 1", TableHeader.class);
+
+        assertThrows(UnsupportedOperationException.class, () -> table.findRow("a"));
+        assertThrows(UnsupportedOperationException.class, () -> table.findRowByPrefix("a"));
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("StreamingTable(tableName=table 1)",
+                StreamingTable.of(page.stream(), "table 1", TableHeader.class).toString());
+    }
+
+    private static String toString(TableRow row) {
+        return row.getCellValue(TableHeader.NAME) + ":" + row.getCellValue(TableHeader.COUNT);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum TableHeader implements TableHeaderColumn {
+        NAME(PatternTableColumn.of("name")),
+        COUNT(PatternTableColumn.of("count"));
+
+        private final TableColumn column;
+    }
+}
@@ -49,5 +49,13 @@ class TableColumnTest {
         assertEquals(0, TableColumn.LEFTMOST_COLUMN.getColumnIndex(0));
         assertEquals(1, TableColumn.LEFTMOST_COLUMN.getColumnIndex(1));
         assertEquals(-1, TableColumn.LEFTMOST_COLUMN.getColumnIndex(-1));
+        assertEquals(TableColumn.NOT_FOUND, TableColumn.NOCOLUMN.findColumnIndex(0));
+        assertEquals(1, TableColumn.LEFTMOST_COLUMN.findColumnIndex(1));
+    }
+
+    @Test
+    void findColumnIndex() {
+        column.findColumnIndex(1, row);
+        verify(column).getColumnIndex(1, row);
     }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TableDataHelperTest {
+
+    final List<@Nullable TableRow> rows = Arrays.asList(row(1), null, row(2), row(3));
+    final Function<TableRow, @Nullable Integer> rowExtractor = row -> {
+        int rowNum = row.getRowNum();
+        if (rowNum == 2) {
+            throw new IllegalArgumentException("bad row");
+        }
+        return (rowNum == 3) ? null : rowNum;
+    };
+
+    @Test
+    void handleRows() {
+        List<Integer> data = TableDataHelper.handleRows("table", "report", rows.iterator(), new ArrayList<>(),
+                TableDataHelper.getDataRowHandler(rowExtractor));
+        assertEquals(List.of(1), data);
+    }
+
+    @Test
+    void getDataCollectionRowHandler() {
+        Function<TableRow, @Nullable Collection<Integer>> rowExtractor = row -> List.of(row.getRowNum(), 0);
+        List<Integer> data = TableDataHelper.handleRows("table", "report", rows.iterator(), new ArrayList<>(),
+                TableDataHelper.getDataCollectionRowHandler(rowExtractor));
+        assertEquals(List.of(1, 0, 2, 0, 3, 0), data);
+    }
+
+    @Test
+    void getDataCollectionRowHandlerWithDuplicatesMerging() {
+        Function<TableRow, @Nullable Collection<Integer>> rowExtractor = row -> List.of(row.getRowNum() % 2);
+        List<Integer> data = TableDataHelper.handleRows("table", "report", rows.iterator(), new ArrayList<>(),
+                TableDataHelper.getDataCollectionRowHandler(rowExtractor, Integer::equals, (a, b) -> List.of(a + b)));
+        assertEquals(List.of(0, 2), data);
+    }
+
+    @Test
+    void forEachData() {
+        List<Integer> data = new ArrayList<>();
+        TableDataHelper.forEachData("table", "report", rows.iterator(), rowExtractor, data::add);
+        assertEquals(List.of(1), data);
+    }
+
+    @Test
+    void forEachDataConsumerException() {
+        assertThrows(IllegalStateException.class, () -> TableDataHelper.forEachData(
+                "table", "report", rows.iterator(), rowExtractor, value -> {
+                    throw new IllegalStateException();
+                }));
+    }
+
+    private static TableRow row(int rowNum) {
+        TableRow row = mock(TableRow.class);
+        when(row.getRowNum()).thenReturn(rowNum);
+        return row;
+    }
+}
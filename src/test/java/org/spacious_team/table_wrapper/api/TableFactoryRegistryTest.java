@@ -24,11 +24,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.lenient;
-import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class TableFactoryRegistryTest {
@@ -101,4 +103,66 @@ class TableFactoryRegistryTest {
         TableFactoryRegistry.clear();
         assertTrue(TableFactoryRegistry.getAll().isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllIsLiveView() {
+        Collection<TableFactory> factories = TableFactoryRegistry.getAll();
+
+        TableFactoryRegistry.add(factory1);
+        assertEquals(Set.of(factory1), factories);
+
+        TableFactoryRegistry.clear();
+        assertTrue(factories.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> factories.add(factory2));
+    }
+
+    @Test
+    void priority() {
+        TableFactoryRegistry.add(factory2);
+        TableFactoryRegistry.add(factory1, 10);
+        lenient().when(factory2.canHandle(reportPage1)).thenReturn(true);
+
+        assertEquals(List.of(factory1, factory2), List.copyOf(TableFactoryRegistry.getAll()));
+        assertSame(factory1, TableFactoryRegistry.get(reportPage1));
+
+        TableFactoryRegistry.remove(factory1);
+        assertSame(factory2, TableFactoryRegistry.get(reportPage1));
+    }
+
+    @Test
+    void equalPrioritiesInRegistrationOrder() {
+        TableFactoryRegistry.add(factory2);
+        TableFactoryRegistry.add(factory1);
+        TableFactoryRegistry.add(factory2, 100); // already registered
+
+        assertEquals(List.of(factory2, factory1), List.copyOf(TableFactoryRegistry.getAll()));
+    }
+
+    @Test
+    void dispatchByReportPageClass() {
+        ColumnarTableFactory columnarTableFactory = new ColumnarTableFactory();
+        ColumnarReportPage columnarReportPage = ColumnarReportPage.of(new ArrayReportPage());
+        TableFactoryRegistry.add(columnarTableFactory);
+        TableFactoryRegistry.add(factory1, -1);
+
+        assertSame(columnarTableFactory, TableFactoryRegistry.get(columnarReportPage));
+        assertSame(columnarTableFactory, TableFactoryRegistry.get(columnarReportPage));
+        verify(factory1, never()).canHandle(any()); // checked after class dispatched factory
+
+        TableFactoryRegistry.remove(columnarTableFactory);
+        assertThrows(IllegalArgumentException.class, () -> TableFactoryRegistry.get(columnarReportPage));
+        verify(factory1).canHandle(columnarReportPage);
+    }
+
+    @Test
+    void dispatchForwardingReportPage() {
+        ColumnarTableFactory columnarTableFactory = new ColumnarTableFactory();
+        ColumnarReportPage columnarReportPage = ColumnarReportPage.of(new ArrayReportPage());
+        ReportPage indexedReportPage = IndexedReportPage.of(columnarReportPage);
+        ReportPage notSupportedIndexedReportPage = IndexedReportPage.of(new ArrayReportPage());
+        TableFactoryRegistry.add(columnarTableFactory);
+
+        assertSame(columnarTableFactory, TableFactoryRegistry.get(indexedReportPage));
+        assertThrows(IllegalArgumentException.class, () -> TableFactoryRegistry.get(notSupportedIndexedReportPage));
+    }
+}
@@ -25,8 +25,10 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.function.Predicate;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
@@ -244,4 +246,51 @@ class TableFactoryTest {
                 headerDescription,
                 2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getTableCellRanges() {
+        tableFactory.getTableCellRanges(reportPage, List.of(tableNameFinder), List.of(lastRowFinder), 2);
+        verify(reportPage).getTableCellRanges(List.of(tableNameFinder), 2, List.of(lastRowFinder));
+    }
+
+    @Test
+    void createAll() {
+        ArrayReportPage page = new ArrayReportPage(
+                new Object[]{"Report"},
+                new Object[]{"Table 1"},
+                new Object[]{"a", "b"},
+                new Object[]{1, 2},
+                null,
+                new Object[]{"Table 2"},
+                new Object[]{"a", "b"},
+                new Object[]{1, 2, 3},
+                new Object[]{"Total"},
+                null,
+                new Object[]{null, "Table 3"},
+                new Object[]{null, "a"},
+                new Object[]{null, 1});
+        Predicate<Object> table2Finder = "Table 2"::equals;
+        Predicate<Object> table3Finder = "Table 3"::equals;
+        List<TableSpec<?>> specs = List.of(
+                TableSpec.of("Table 1", headerDescription, 1),
+                TableSpec.of("Table 2", "total", headerDescription, 1),
+                TableSpec.of(table3Finder, headerDescription, 1),
+                TableSpec.of("Table 4", headerDescription, 1),
+                TableSpec.of("Table 1", headerDescription, 2),
+                TableSpec.of(table2Finder, "Total"::equals, headerDescription, 2));
+        TableCellRange table2Range = page.getTableCellRange("Table 2", 2, "total");
+        TableCellRange table3Range = page.getTableCellRange(table3Finder, 1);
+
+        List<Table> tables = tableFactory.createAll(page, specs);
+
+        assertEquals(specs.size(), tables.size());
+        verify(tableFactory).create(page, "Table 1", page.getTableCellRange("Table 1", 1), headerDescription, 1);
+        verify(tableFactory).create(page, "Table 2", page.getTableCellRange("Table 2", 1, "total"), headerDescription, 1);
+        verify(tableFactory).create(page, TableFactoryHelper.getTableName(page, table3Finder, table3Range),
+                table3Range, headerDescription, 1);
+        verify(tableFactory).create(page, "Table 4", TableCellRange.EMPTY_RANGE, headerDescription, 1);
+        verify(tableFactory).create(page, "Table 1", page.getTableCellRange("Table 1", 2), headerDescription, 2);
+        verify(tableFactory).create(page, TableFactoryHelper.getTableName(page, table2Finder, table2Range),
+                table2Range, headerDescription, 2);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TableLayoutRegistryTest {
+
+    final ArrayReportPage page = new ArrayReportPage(
+            new Object[]{"Report"},
+            new Object[]{"Trades"},
+            new Object[]{"Name", "Count"},
+            new Object[]{"a", 1},
+            null,
+            new Object[]{"Trades"},
+            new Object[]{"Security", "Quantity"},
+            new Object[]{"b", 2},
+            new Object[]{"c", 3});
+    final TableLayout<BrokerATableHeader> brokerA =
+            TableLayout.ofPrefix("broker A", "trades", BrokerATableHeader.class, 1);
+    final TableLayout<BrokerBTableHeader> brokerB =
+            TableLayout.ofPrefix("broker B", "trades", BrokerBTableHeader.class, 1);
+
+    @AfterEach
+    void tearDown() {
+        TableFactoryRegistry.remove(new ColumnarTableFactory());
+    }
+
+    @Test
+    void detect() {
+        TableLayoutRegistry registry = TableLayoutRegistry.of();
+        registry.add(brokerA);
+        registry.add(brokerB);
+
+        List<TableLayoutMatch> matches = registry.detect(page);
+
+        assertEquals(2, matches.size());
+        assertSame(brokerA, matches.get(0).getLayout());
+        assertEquals(TableCellRange.of(1, 3, 0, 1), matches.get(0).getTableRange());
+        assertEquals(Map.of(BrokerATableHeader.NAME.getColumn(), 0, BrokerATableHeader.COUNT.getColumn(), 1),
+                matches.get(0).getHeaderDescription());
+        assertSame(brokerB, matches.get(1).getLayout());
+        assertEquals(TableCellRange.of(5, 8, 0, 1), matches.get(1).getTableRange());
+        assertEquals(Map.of(BrokerBTableHeader.SECURITY.getColumn(), 0, BrokerBTableHeader.QUANTITY.getColumn(), 1),
+                matches.get(1).getHeaderDescription());
+    }
+
+    @Test
+    void detectByFingerprint() {
+        TableLayoutRegistry registry = TableLayoutRegistry.of();
+        registry.add(brokerA);
+        registry.add(brokerB);
+
+        List<TableLayoutMatch> expected = registry.detect(page);
+        assertEquals(0, registry.getFingerprintHitCount());
+
+        assertEquals(4, registry.getFingerprintMissCount());
+
+        assertEquals(expected, registry.detect(page));
+        assertEquals(4, registry.getFingerprintHitCount()); // not matched headers are cached too
+        assertEquals(4, registry.getFingerprintMissCount());
+    }
+
+    @Test
+    void detectWithWrappedOptionalColumnNotFound() {
+        TableLayoutRegistry registry = TableLayoutRegistry.of();
+        TableLayout<WrappedOptionalTableHeader> layout =
+                TableLayout.ofPrefix("optional", "trades", WrappedOptionalTableHeader.class, 1);
+        registry.add(layout);
+
+        List<TableLayoutMatch> matches = registry.detect(page);
+
+        assertEquals(1, matches.size());
+        assertEquals(Map.of(WrappedOptionalTableHeader.NAME.getColumn(), 0), matches.get(0).getHeaderDescription());
+    }
+
+    @Test
+    void readEachRowOnce() {
+        TableLayoutRegistry registry = TableLayoutRegistry.of();
+        registry.add(TableLayout.ofPrefix("broker A", "not found", BrokerATableHeader.class, 1));
+        registry.add(TableLayout.ofPrefix("broker B", "not found", BrokerBTableHeader.class, 1));
+        ReportPage spy = spy(page);
+
+        assertEquals(List.of(), registry.detect(spy));
+        for (int i = 0; i <= page.getLastRowNum(); i++) {
+            verify(spy, times(1)).getRow(i);
+        }
+    }
+
+    @Test
+    void absentHeaderRow() {
+        TableLayoutRegistry registry = TableLayoutRegistry.of();
+        registry.add(TableLayout.ofPrefix("report", "report", BrokerATableHeader.class, 3));
+
+        assertEquals(List.of(), registry.detect(new ArrayReportPage(new Object[]{"Report"}, null)));
+    }
+
+    @Test
+    void addAndRemove() {
+        TableLayoutRegistry registry = TableLayoutRegistry.of(10);
+        registry.add(brokerA);
+        registry.add(brokerB);
+        assertEquals(List.of(brokerA, brokerB), registry.getLayouts());
+
+        assertTrue(registry.remove(brokerA));
+        assertFalse(registry.remove(brokerA));
+        assertEquals(List.of(brokerB), registry.getLayouts());
+        assertEquals(List.of(brokerB), registry.detect(page).stream().map(TableLayoutMatch::getLayout).collect(Collectors.toList()));
+    }
+
+    @Test
+    void createTable() {
+        TableFactoryRegistry.add(new ColumnarTableFactory());
+        ReportPage columnarPage = ColumnarReportPage.of(page);
+        TableLayoutRegistry registry = TableLayoutRegistry.of();
+        registry.add(brokerB);
+
+        TableLayoutMatch match = registry.detect(columnarPage).get(0);
+        Table table = match.createTable(columnarPage);
+
+        assertSame(match.getHeaderDescription(), table.getHeaderDescription()); // not resolved again
+        assertEquals(List.of("b", "c"), table.stream()
+                .map(row -> row.getStringCellValue(BrokerBTableHeader.SECURITY))
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("TableLayout(name=broker A, headerDescription=class " + BrokerATableHeader.class.getName() +
+                ", headersRowCount=1)", brokerA.toString());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum BrokerATableHeader implements TableHeaderColumn {
+        NAME(PatternTableColumn.of("name")),
+        COUNT(PatternTableColumn.of("count"));
+
+        private final TableColumn column;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum WrappedOptionalTableHeader implements TableHeaderColumn {
+        NAME(PatternTableColumn.of("name")),
+        PRICE(RelativePositionTableColumn.of(OptionalTableColumn.of(PatternTableColumn.of("price")), 1));
+
+        private final TableColumn column;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum BrokerBTableHeader implements TableHeaderColumn {
+        SECURITY(PatternTableColumn.of("security")),
+        QUANTITY(PatternTableColumn.of("quantity"));
+
+        private final TableColumn column;
+    }
+}
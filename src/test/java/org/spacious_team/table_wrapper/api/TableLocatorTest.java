@@ -0,0 +1,128 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.spacious_team.table_wrapper.api.ReportPageHelper.getCellStringValueIgnoreCasePrefixPredicate;
+
+class TableLocatorTest {
+
+    final ArrayReportPage page = new ArrayReportPage(
+            new Object[]{"Report"},
+            new Object[]{"Table 1"},
+            new Object[]{"Name", "Count"},
+            new Object[]{"a", 1},
+            new Object[]{"b", 2},
+            new Object[]{"", null, ""},
+            new Object[]{null, "Table 2", "description"},
+            null,
+            new Object[]{null, "Count", "Name"},
+            new Object[]{null, 3, "c"},
+            new Object[]{"Total", 3, null, 4},
+            null,
+            new Object[]{"Table 3"},
+            new Object[]{"Name"});
+
+    @Test
+    void locate() {
+        TableLocator locator = TableLocator.ofPrefixes(List.of("table"), 1);
+
+        assertEquals(List.of(
+                        TableCellRange.of(1, 4, 0, 1),
+                        TableCellRange.of(6, 10, 1, 3),
+                        TableCellRange.of(12, 13, 0, 0)),
+                locator.locate(page));
+    }
+
+    @Test
+    void locateWithLastRowFinder() {
+        TableLocator locator = TableLocator.of(
+                List.of(getCellStringValueIgnoreCasePrefixPredicate("table 2"), "Table 1"::equals),
+                1,
+                getCellStringValueIgnoreCasePrefixPredicate("total"));
+
+        assertEquals(List.of(
+                        TableCellRange.of(1, 4, 0, 1),
+                        TableCellRange.of(6, 10, 1, 3)),
+                locator.locate(page));
+    }
+
+    @Test
+    void lastRowFinderIsTestedForDataRowsOnly() {
+        TableLocator locator = TableLocator.of(List.of("Table 2"::equals), 2, "Count"::equals);
+
+        assertEquals(List.of(TableCellRange.of(6, 10, 1, 3)), locator.locate(page));
+    }
+
+    @Test
+    void emptyHeaderRows() {
+        TableLocator locator = TableLocator.ofPrefixes(List.of("table 2"), 3);
+
+        assertEquals(List.of(TableCellRange.of(6, 10, 1, 3)), locator.locate(page));
+    }
+
+    @Test
+    void tableEndsWithLastPageRow() {
+        TableLocator locator = TableLocator.ofPrefixes(List.of("table 3"), 5);
+
+        assertEquals(List.of(TableCellRange.of(12, 13, 0, 0)), locator.locate(page));
+    }
+
+    @Test
+    void notFound() {
+        TableLocator locator = TableLocator.ofPrefixes(List.of("table 4"), 1);
+
+        assertEquals(List.of(), locator.locate(page));
+        assertEquals(List.of(), locator.locate(new ArrayReportPage()));
+    }
+
+    @Test
+    void locateToConsumer() {
+        List<TableCellRange> ranges = new ArrayList<>();
+        TableLocator.ofPrefixes(List.of("table"), 1).locate(page, ranges::add);
+
+        assertEquals(3, ranges.size());
+    }
+
+    @Test
+    void readEachRowOnce() {
+        ReportPage spy = spy(page);
+        TableLocator.ofPrefixes(List.of("table"), 1).locate(spy);
+
+        for (int i = 0; i <= page.getLastRowNum(); i++) {
+            verify(spy).getRow(i);
+        }
+    }
+
+    @Test
+    void illegalArguments() {
+        List<Predicate<Object>> noFinders = List.of();
+        List<Predicate<Object>> finders = List.of("Table 1"::equals);
+        assertThrows(IllegalArgumentException.class, () -> TableLocator.of(noFinders, 1));
+        assertThrows(IllegalArgumentException.class, () -> TableLocator.of(finders, -1));
+    }
+}
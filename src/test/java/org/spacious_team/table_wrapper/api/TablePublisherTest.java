@@ -0,0 +1,230 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TablePublisherTest {
+
+    final Table table = new ColumnarTableFactory().create(
+            ColumnarReportPage.of(new ArrayReportPage(
+                    new Object[]{"Table"},
+                    new Object[]{"Value"},
+                    new Object[]{1},
+                    new Object[]{2},
+                    new Object[]{"skipped"},
+                    new Object[]{3},
+                    new Object[]{4})),
+            "Table", TableHeader.class);
+    final AtomicInteger extractedRows = new AtomicInteger();
+    final Function<TableRow, @Nullable Integer> rowExtractor = row -> {
+        extractedRows.incrementAndGet();
+        @Nullable Object value = row.getCellValue(TableHeader.VALUE);
+        return (value instanceof Integer) ? (Integer) value : null;
+    };
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+
+    @Test
+    void publishOnDemand() {
+        Flow.Publisher<Integer> publisher = table.publisher(rowExtractor, Runnable::run);
+
+        publisher.subscribe(subscriber);
+        assertNotNull(subscriber.subscription);
+        assertEquals(0, extractedRows.get());
+
+        subscriber.subscription.request(2);
+        assertEquals(List.of(1, 2), subscriber.values);
+        assertEquals(2, extractedRows.get());
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(1);
+        assertEquals(List.of(1, 2, 3), subscriber.values);
+        assertEquals(4, extractedRows.get());
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(10);
+        assertEquals(List.of(1, 2, 3, 4), subscriber.values);
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    void publishUnbounded() {
+        table.publisher(rowExtractor, Runnable::run).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(List.of(1, 2, 3, 4), subscriber.values);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void cancel() {
+        table.publisher(rowExtractor, Runnable::run).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(10);
+
+        assertEquals(List.of(1), subscriber.values);
+        assertFalse(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    void invalidRequest() {
+        table.publisher(rowExtractor, Runnable::run).subscribe(subscriber);
+        subscriber.subscription.request(0);
+        subscriber.subscription.request(10);
+
+        assertEquals(IllegalArgumentException.class, requireError().getClass());
+        assertEquals(List.of(), subscriber.values);
+    }
+
+    @Test
+    void rowExtractorError() {
+        RuntimeException exception = new RuntimeException("bad row");
+        table.<Integer>publisher(row -> {
+            throw exception;
+        }, Runnable::run).subscribe(subscriber);
+        subscriber.subscription.request(10);
+
+        assertSame(exception, requireError());
+        assertEquals(List.of(), subscriber.values);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    void rejectedExecution() {
+        table.publisher(rowExtractor, command -> {
+            throw new RejectedExecutionException();
+        }).subscribe(subscriber);
+
+        assertNotNull(subscriber.subscription);
+        assertEquals(RejectedExecutionException.class, requireError().getClass());
+    }
+
+    @Test
+    void subscribeNull() {
+        Flow.Publisher<Integer> publisher = table.publisher(rowExtractor);
+        //noinspection ConstantConditions
+        assertThrows(NullPointerException.class, () -> publisher.subscribe(null));
+    }
+
+    @Test
+    void publishAsync() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CompletableFuture<List<Integer>> result = new CompletableFuture<>();
+            table.publisher(rowExtractor, executor).subscribe(new Flow.Subscriber<>() {
+                private final List<Integer> values = new ArrayList<>();
+                private Flow.@Nullable Subscription subscription;
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(Integer item) {
+                    values.add(item);
+                    //noinspection ConstantConditions
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    result.completeExceptionally(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    result.complete(values);
+                }
+            });
+
+            assertEquals(List.of(1, 2, 3, 4), result.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testToString() {
+        assertTrue(TablePublisher.of(table, rowExtractor, Runnable::run).toString().startsWith("TablePublisher(table="));
+    }
+
+    private Throwable requireError() {
+        @Nullable Throwable error = subscriber.error;
+        assertNotNull(error);
+        //noinspection ConstantConditions
+        return error;
+    }
+
+    static class RecordingSubscriber implements Flow.Subscriber<Integer> {
+        final List<Integer> values = new ArrayList<>();
+        @SuppressWarnings("NotNullFieldNotInitialized")
+        Flow.Subscription subscription;
+        @Nullable Throwable error;
+        boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            values.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum TableHeader implements TableHeaderColumn {
+        VALUE(PatternTableColumn.of("value"));
+        private final TableColumn column;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Table Wrapper API
+ * Copyright (C) 2022  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TableRegionIndexTest {
+
+    final TableCellRange range1 = TableCellRange.of(0, 5, 0, 3);
+    final TableCellRange range2 = TableCellRange.of(3, 10, 5, 8);
+    final TableCellRange range3 = TableCellRange.of(12, 20, 0, 8);
+    final TableRegionIndex<TableCellRange> index =
+            TableRegionIndex.of(List.of(range3, TableCellRange.EMPTY_RANGE, range1, range2));
+
+    @Test
+    void size() {
+        assertEquals(3, index.size());
+        assertFalse(index.isEmpty());
+        assertTrue(TableRegionIndex.of(List.of(TableCellRange.EMPTY_RANGE)).isEmpty());
+    }
+
+    @Test
+    void find() {
+        assertSame(range1, index.find(TableCellAddress.of(4, 1)));
+        assertSame(range2, index.find(TableCellAddress.of(4, 5)));
+        assertSame(range3, index.find(TableCellAddress.of(20, 8)));
+        assertNull(index.find(TableCellAddress.of(4, 4)));
+        assertNull(index.find(TableCellAddress.of(11, 0)));
+        assertNull(index.find(TableCellAddress.NOT_FOUND));
+    }
+
+    @Test
+    void findByRow() {
+        assertEquals(List.of(range1), index.findByRow(0));
+        assertEquals(List.of(range1, range2), index.findByRow(4));
+        assertEquals(emptyList(), index.findByRow(11));
+        assertEquals(List.of(range3), index.findByRow(12));
+        assertEquals(emptyList(), index.findByRow(-1));
+    }
+
+    @Test
+    void findOverlapping() {
+        assertEquals(List.of(range1, range2), index.findOverlapping(TableCellRange.of(2, 4, 3, 5)));
+        assertEquals(List.of(range2), index.findOverlapping(TableCellRange.of(2, 4, 4, 5)));
+        assertEquals(List.of(range2, range3), index.findOverlapping(TableCellRange.of(10, 12, 5, 5)));
+        assertEquals(emptyList(), index.findOverlapping(TableCellRange.of(6, 11, 0, 4)));
+        assertEquals(emptyList(), index.findOverlapping(TableCellRange.EMPTY_RANGE));
+    }
+
+    @Test
+    void equalFirstRowsInIndexingOrder() {
+        TableCellRange wide = TableCellRange.of(1, 2, 0, 10);
+        TableCellRange narrow = TableCellRange.of(1, 2, 0, 1);
+        TableRegionIndex<TableCellRange> index = TableRegionIndex.of(List.of(wide, narrow));
+
+        assertEquals(List.of(wide, narrow), index.findAll(TableCellAddress.of(1, 0)));
+        assertSame(wide, index.find(TableCellAddress.of(2, 1)));
+    }
+
+    @Test
+    void findSameAsLinearSearch() {
+        Random random = new Random(0);
+        List<TableCellRange> ranges = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int firstRow = random.nextInt(1000);
+            int firstColumn = random.nextInt(20);
+            ranges.add(TableCellRange.of(firstRow, firstRow + random.nextInt(50),
+                    firstColumn, firstColumn + random.nextInt(5)));
+        }
+        TableRegionIndex<TableCellRange> index = TableRegionIndex.of(ranges);
+        for (int i = 0; i < 1000; i++) {
+            TableCellAddress address = TableCellAddress.of(random.nextInt(1100), random.nextInt(30));
+            assertEquals(
+                    ranges.stream().filter(r -> r.contains(address)).collect(Collectors.toSet()),
+                    Set.copyOf(index.findAll(address)));
+            List<TableCellRange> found = index.findAll(address);
+            assertEquals(found.isEmpty() ? null : found.get(0), index.find(address));
+            assertEquals(
+                    ranges.stream().filter(r -> r.containsRow(address.getRow())).collect(Collectors.toSet()),
+                    Set.copyOf(index.findByRow(address.getRow())));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void ofTables() {
+        AbstractTable<ReportPageRow> table1 = mock(AbstractTable.class);
+        AbstractTable<ReportPageRow> table2 = mock(AbstractTable.class);
+        when(table1.getTableRange()).thenReturn(range1);
+        when(table2.getTableRange()).thenReturn(range2);
+
+        TableRegionIndex<Table> index = TableRegionIndex.ofTables(List.of(table1, table2));
+
+        assertSame(table1, index.find(TableCellAddress.of(0, 0)));
+        assertSame(table2, index.find(TableCellAddress.of(10, 8)));
+        assertEquals(List.of(table1, table2), index.findByRow(3));
+    }
+
+    @Test
+    void ofTablesSideBySide() {
+        ReportPage page = ColumnarReportPage.of(new ArrayReportPage(
+                new Object[]{"Table 1", null, null, "Table 2"},
+                new Object[]{"Price", null, null, "Amount"},
+                new Object[]{1, null, null, 2}));
+        Table table1 = new ColumnarTableFactory().create(page, "Table 1", TableCellRange.of(0, 2, 0, 3),
+                PriceHeader.class, 1);
+        Table table2 = new ColumnarTableFactory().create(page, "Table 2", TableCellRange.of(0, 2, 0, 3),
+                AmountHeader.class, 1);
+
+        TableRegionIndex<Table> index = TableRegionIndex.ofTables(List.of(table1, table2));
+
+        assertSame(table1, index.find(TableCellAddress.of(2, 0)));
+        assertSame(table2, index.find(TableCellAddress.of(2, 3)));
+        assertNull(index.find(TableCellAddress.of(2, 1)));
+    }
+
+    @Test
+    void ofTablesNotNarrowed() {
+        ReportPage page = new ArrayReportPage(
+                new Object[]{"Table"},
+                new Object[]{"Value"},
+                new Object[]{1});
+        AbstractTable<?> table = (AbstractTable<?>) new ColumnarTableFactory()
+                .create(ColumnarReportPage.of(page), "Table", HeaderWithMissingColumn.class);
+
+        TableRegionIndex<Table> index = TableRegionIndex.ofTablesNotNarrowed(List.of(table));
+
+        assertSame(table, index.find(TableCellAddress.of(2, 0)));
+        assertThrows(TableColumnNotFound.class, table::getTableRange); // header is resolved on demand only
+    }
+
+    @Test
+    void ofTablesUnknownRange() {
+        List<Table> tables = List.of(mock(Table.class));
+        assertThrows(IllegalArgumentException.class, () -> TableRegionIndex.ofTables(tables));
+        assertThrows(IllegalArgumentException.class, () -> TableRegionIndex.ofTablesNotNarrowed(tables));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum PriceHeader implements TableHeaderColumn {
+        PRICE(PatternTableColumn.of("price"));
+        private final TableColumn column;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum AmountHeader implements TableHeaderColumn {
+        AMOUNT(PatternTableColumn.of("amount"));
+        private final TableColumn column;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    enum HeaderWithMissingColumn implements TableHeaderColumn {
+        MISSING(PatternTableColumn.of("missing"));
+        private final TableColumn column;
+    }
+}
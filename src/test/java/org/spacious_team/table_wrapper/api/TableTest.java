@@ -23,11 +23,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class TableTest {
@@ -49,6 +62,69 @@ class TableTest {
         verify(table).getDataCollection("unknown", rowExtractor);
     }
 
+    @Test
+    void forEachData() {
+        Function<TableRow, ?> rowExtractor = Function.identity();
+        Consumer<Object> consumer = x -> {
+        };
+        doReturn(Collections.emptyIterator()).when(table).iterator();
+        table.forEachData(rowExtractor, consumer);
+        verify(table).forEachData("unknown", rowExtractor, consumer);
+    }
+
+    @Test
+    void forEachDataWithReport() {
+        TableRow row1 = mock(TableRow.class);
+        TableRow row2 = mock(TableRow.class);
+        when(row2.getRowNum()).thenReturn(2);
+        doReturn(Arrays.asList(row1, null, row2).iterator()).when(table).iterator();
+        List<Object> data = new ArrayList<>();
+
+        table.forEachData("report", row -> {
+            if (row == row2) {
+                throw new IllegalArgumentException("bad row");
+            }
+            return row;
+        }, data::add);
+
+        assertEquals(List.of(row1), data);
+    }
+
+    @Test
+    void forEachDataBatch() {
+        doAnswer(invocation -> {
+            Consumer<Integer> consumer = invocation.getArgument(2);
+            IntStream.range(0, 5).forEach(consumer::accept);
+            return null;
+        }).when(table).forEachData(any(), any(), any());
+        List<List<Integer>> batches = new ArrayList<>();
+
+        table.forEachData("report", row -> 0, 2, batches::add);
+
+        assertEquals(List.of(List.of(0, 1), List.of(2, 3), List.of(4)), batches);
+    }
+
+    @Test
+    void forEachDataBatchOfExactSize() {
+        doAnswer(invocation -> {
+            Consumer<Integer> consumer = invocation.getArgument(2);
+            IntStream.range(0, 4).forEach(consumer::accept);
+            return null;
+        }).when(table).forEachData(any(), any(), any());
+        List<List<Integer>> batches = new ArrayList<>();
+
+        table.forEachData("report", row -> 0, 2, batches::add);
+
+        assertEquals(List.of(List.of(0, 1), List.of(2, 3)), batches);
+    }
+
+    @Test
+    void forEachDataBatchOfInvalidSize() {
+        Function<TableRow, ?> rowExtractor = Function.identity();
+        assertThrows(IllegalArgumentException.class, () -> table.forEachData("report", rowExtractor, 0, x -> {
+        }));
+    }
+
     @Test
     void excludeTotalRow() {
         table.excludeTotalRow();